@@ -7,8 +7,10 @@ import com.badlogic.gdx.math.Vector2;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import sg.edu.sit.inf1009.p2team2.engine.collision.Circle;
 import sg.edu.sit.inf1009.p2team2.engine.collision.CollisionManager;
+import sg.edu.sit.inf1009.p2team2.engine.collision.DynamicAabbTree;
 import sg.edu.sit.inf1009.p2team2.engine.collision.Shape;
 import sg.edu.sit.inf1009.p2team2.engine.config.ConfigKey;
 import sg.edu.sit.inf1009.p2team2.engine.config.ConfigKeys;
@@ -69,7 +71,9 @@ public class MainScene extends Scene {
     private EntityManager entityManager;
     private MovementManager movementManager;
     private CollisionManager collisionManager;
+    private DynamicAabbTree colliderTree;
     private Random random;
+    private final Vector2 drawPosition = new Vector2();
 
     private int playerEntityId;
     private int presetIndex;
@@ -148,6 +152,13 @@ public class MainScene extends Scene {
             return;
         }
 
+        for (Entity entity : entityManager.getAllEntities()) {
+            TransformComponent transform = entity.get(TransformComponent.class);
+            if (transform != null) {
+                transform.storePrevious();
+            }
+        }
+
         refreshWorldBounds();
         animationTime += Math.max(0f, dt);
         if (paused) {
@@ -155,14 +166,13 @@ public class MainScene extends Scene {
         }
 
         movementManager.update(dt);
-        syncAllColliderBounds();
         keepEntitiesInsideWorld();
 
         if (collisionsEnabled) {
             collisionManager.update(dt);
-            syncAllColliderBounds();
             keepEntitiesInsideWorld();
         }
+        collisionManager.syncColliders();
     }
 
     @Override
@@ -176,9 +186,17 @@ public class MainScene extends Scene {
     }
 
     void loadMainResources() {
-        this.entityManager = new EntityManager();
+        this.entityManager = new EntityManager(EntityManager.StorageMode.ARCHETYPE);
         this.movementManager = new MovementManager(entityManager);
+        this.movementManager.setParallel(ForkJoinPool.commonPool());
+        this.movementManager.setSleepEnabled(true);
         this.collisionManager = new CollisionManager(entityManager);
+        this.colliderTree = new DynamicAabbTree();
+        this.collisionManager.setBroadPhase(colliderTree);
+        this.collisionManager.setParallel(true);
+        if (getContext() != null && getContext().getConfigManager() != null) {
+            this.collisionManager.loadLayers(getContext().getConfigManager());
+        }
         this.random = new Random(1009L);
         this.animationTime = 0f;
         this.currentMode = DemoMode.INTERACTIVE;
@@ -277,7 +295,7 @@ public class MainScene extends Scene {
             spawnNpcAt(mouse.getPosition().x - NPC_SIZE * 0.5f, mouse.getPosition().y - NPC_SIZE * 0.5f);
             playSpawnSound();
         }
-        if (mouse.isButtonPressed(1)) {
+        if (mouse.isButtonPressed(1) && !removeNpcAt(mouse.getPosition())) {
             removeNpcEntities(1);
         }
         float scroll = mouse.getScrollDelta();
@@ -312,6 +330,7 @@ public class MainScene extends Scene {
 
         TransformComponent transform = new TransformComponent();
         transform.setPosition(new Vector2(x, y));
+        transform.storePrevious();
         transform.setRotation(0f);
         transform.setScale(new Vector2(1f, 1f));
 
@@ -380,6 +399,31 @@ public class MainScene extends Scene {
         }
     }
 
+    /**
+     * Removes the NPC under the given point using the collider tree from the
+     * last collision pass. Returns false when no NPC was hit.
+     */
+    private boolean removeNpcAt(Vector2 point) {
+        if (colliderTree == null || entityManager == null) {
+            return false;
+        }
+        int[] hit = {-1};
+        colliderTree.queryPoint(point.x, point.y, id -> {
+            if (id == playerEntityId || entityManager.getEntity(id) == null) {
+                return true;
+            }
+            hit[0] = id;
+            return false;
+        });
+        if (hit[0] < 0) {
+            return false;
+        }
+        Entity entity = entityManager.getEntity(hit[0]);
+        collisionManager.unregisterCollider(entity);
+        entityManager.removeEntity(entity.getId());
+        return true;
+    }
+
     private void cycleEntityPreset() {
         presetIndex = (presetIndex + 1) % ENTITY_PRESETS.length;
         targetEntityCount = ENTITY_PRESETS[presetIndex];
@@ -508,17 +552,6 @@ public class MainScene extends Scene {
         velocity.setVelocity(desiredVelocity);
     }
 
-    private void syncAllColliderBounds() {
-        for (Entity entity : entityManager.getAllEntities()) {
-            TransformComponent transform = entity.get(TransformComponent.class);
-            ColliderComponent collider = entity.get(ColliderComponent.class);
-            if (transform == null || collider == null || transform.getPosition() == null) {
-                continue;
-            }
-            setColliderPosition(collider, transform.getPosition().x, transform.getPosition().y);
-        }
-    }
-
     private void keepEntitiesInsideWorld() {
         for (Entity entity : entityManager.getAllEntities()) {
             TransformComponent transform = entity.get(TransformComponent.class);
@@ -552,7 +585,6 @@ public class MainScene extends Scene {
             }
 
             transform.getPosition().set(x, y);
-            setColliderPosition(collider, x, y);
         }
     }
 
@@ -561,6 +593,7 @@ public class MainScene extends Scene {
             return;
         }
 
+        float alpha = getContext().getInterpolationAlpha();
         for (Entity entity : entityManager.getAllEntities()) {
             ColliderComponent collider = entity.get(ColliderComponent.class);
             RenderableComponent renderable = entity.get(RenderableComponent.class);
@@ -568,6 +601,13 @@ public class MainScene extends Scene {
             if (collider == null || bounds == null || renderable == null || !renderable.isVisible()) {
                 continue;
             }
+            TransformComponent transform = entity.get(TransformComponent.class);
+            if (transform != null) {
+                // Draw between the last two ticks rather than snapping to the latest.
+                transform.interpolate(alpha, drawPosition);
+                bounds.x += drawPosition.x - transform.getPosition().x;
+                bounds.y += drawPosition.y - transform.getPosition().y;
+            }
 
             Color fill = renderable.getColor() == null ? Color.WHITE : renderable.getColor();
             renderer.drawRect(bounds, fill, true);
@@ -651,6 +691,7 @@ public class MainScene extends Scene {
         Audio audio = getAudio();
         float masterVolume = audio == null ? 0f : audio.getMasterVolume();
         int activeCollisions = collisionManager == null ? 0 : collisionManager.getActiveCollisionCount();
+        int sleepingBodies = movementManager == null ? 0 : movementManager.getSleepingCount();
 
         renderer.drawText("ABSTRACT ENGINE SIMULATION", new Vector2(16f, top), "default", Color.WHITE);
         renderer.drawText(
@@ -663,6 +704,7 @@ public class MainScene extends Scene {
             "Entities: " + entityManager.size() + " (preset " + ENTITY_PRESETS[presetIndex] + ")"
                 + " | Collision: " + (collisionsEnabled ? "ON" : "OFF")
                 + " | ActiveCollisions: " + activeCollisions
+                + " | Sleeping: " + sleepingBodies
                 + " | State: " + (paused ? "PAUSED" : "RUNNING"),
             new Vector2(16f, top - 48f),
             "default",
@@ -721,6 +763,8 @@ public class MainScene extends Scene {
         ensureDefaultConfig(config, SimulationConfigKeys.SIMULATION_FRICTION);
         ensureDefaultConfig(config, SimulationConfigKeys.SIMULATION_PLAYER_SPEED);
         ensureDefaultConfig(config, SimulationConfigKeys.SIMULATION_COLLISIONS_ENABLED);
+        ensureDefaultConfig(config, SimulationConfigKeys.SIMULATION_SOLVER_ITERATIONS);
+        ensureDefaultConfig(config, SimulationConfigKeys.SIMULATION_PARALLEL_MOVEMENT_THRESHOLD);
         ensureDefaultConfig(config, SimulationConfigKeys.SIMULATION_MUSIC_ENABLED);
         ensureDefaultConfig(config, ConfigKeys.AUDIO_VOLUME);
 
@@ -734,6 +778,8 @@ public class MainScene extends Scene {
         float frictionValue = config.get(SimulationConfigKeys.SIMULATION_FRICTION);
         movementManager.setGravity(new Vector2(0f, gravityValue));
         movementManager.setFriction(frictionValue);
+        collisionManager.getResolver().setIterations(config.get(SimulationConfigKeys.SIMULATION_SOLVER_ITERATIONS));
+        movementManager.setParallelThreshold(config.get(SimulationConfigKeys.SIMULATION_PARALLEL_MOVEMENT_THRESHOLD));
 
         Audio audio = getAudio();
         if (audio != null) {
@@ -818,22 +864,6 @@ public class MainScene extends Scene {
         return null;
     }
 
-    private void setColliderPosition(ColliderComponent collider, float x, float y) {
-        if (collider == null) {
-            return;
-        }
-
-        Shape shape = collider.getShape();
-        if (shape instanceof sg.edu.sit.inf1009.p2team2.engine.collision.Rectangle rect) {
-            rect.setPosition(new Vector2(x, y));
-            return;
-        }
-        if (shape instanceof Circle circle) {
-            float radius = circle.getRadius();
-            circle.setCenter(new Vector2(x + radius, y + radius));
-        }
-    }
-
     private Vector2 randomVelocity() {
         float x = (random.nextFloat() * 2f - 1f) * 140f;
         float y = (random.nextFloat() * 2f - 1f) * 140f;
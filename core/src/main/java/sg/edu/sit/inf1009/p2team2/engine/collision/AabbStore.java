@@ -0,0 +1,154 @@
+package sg.edu.sit.inf1009.p2team2.engine.collision;
+
+import java.util.Arrays;
+
+/**
+ * Packed structure-of-arrays store of collider bounding boxes.
+ *
+ * Each slot holds one box as {@code minX/minY/maxX/maxY} in parallel float
+ * arrays, plus the collider's layer, mask and static and sleeping flags, so
+ * filtering and overlap tests run over primitives without touching shapes or
+ * components.
+ * {@link CollisionDetector} refills it once per detection, with slot
+ * {@code i} holding the {@code i}-th entity of the list; slots without a
+ * usable collider are left empty.
+ */
+public final class AabbStore {
+    private static final byte PRESENT = 1;
+    private static final byte STATIC = 2;
+    private static final byte SLEEPING = 4;
+
+    private float[] minX = new float[64];
+    private float[] minY = new float[64];
+    private float[] maxX = new float[64];
+    private float[] maxY = new float[64];
+    private int[] layer = new int[64];
+    private int[] mask = new int[64];
+    private byte[] flags = new byte[64];
+    private int size;
+
+    /**
+     * Empties the store and makes room for {@code size} slots.
+     */
+    public void begin(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must be >= 0");
+        }
+        if (size > flags.length) {
+            int capacity = Math.max(size, flags.length * 2);
+            minX = Arrays.copyOf(minX, capacity);
+            minY = Arrays.copyOf(minY, capacity);
+            maxX = Arrays.copyOf(maxX, capacity);
+            maxY = Arrays.copyOf(maxY, capacity);
+            layer = Arrays.copyOf(layer, capacity);
+            mask = Arrays.copyOf(mask, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+        }
+        Arrays.fill(flags, 0, Math.max(size, this.size), (byte) 0);
+        this.size = size;
+    }
+
+    public void set(int slot, float minX, float minY, float maxX, float maxY,
+                    int layer, int mask, boolean isStatic) {
+        set(slot, minX, minY, maxX, maxY, layer, mask, isStatic, false);
+    }
+
+    public void set(int slot, float minX, float minY, float maxX, float maxY,
+                    int layer, int mask, boolean isStatic, boolean sleeping) {
+        checkSlot(slot);
+        this.minX[slot] = minX;
+        this.minY[slot] = minY;
+        this.maxX[slot] = maxX;
+        this.maxY[slot] = maxY;
+        this.layer[slot] = layer;
+        this.mask[slot] = mask;
+        this.flags[slot] = (byte) (PRESENT | (isStatic ? STATIC : 0) | (sleeping ? SLEEPING : 0));
+    }
+
+    public void remove(int slot) {
+        checkSlot(slot);
+        flags[slot] = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int slot) {
+        return slot >= 0 && slot < size && (flags[slot] & PRESENT) != 0;
+    }
+
+    public float getMinX(int slot) {
+        return minX[slot];
+    }
+
+    public float getMinY(int slot) {
+        return minY[slot];
+    }
+
+    public float getMaxX(int slot) {
+        return maxX[slot];
+    }
+
+    public float getMaxY(int slot) {
+        return maxY[slot];
+    }
+
+    public int getLayer(int slot) {
+        return layer[slot];
+    }
+
+    public int getMask(int slot) {
+        return mask[slot];
+    }
+
+    public boolean isStatic(int slot) {
+        return (flags[slot] & STATIC) != 0;
+    }
+
+    public boolean isSleeping(int slot) {
+        return (flags[slot] & SLEEPING) != 0;
+    }
+
+    /**
+     * Whether the slot's body cannot move this frame: static or asleep.
+     */
+    public boolean isAtRest(int slot) {
+        return (flags[slot] & (STATIC | SLEEPING)) != 0;
+    }
+
+    /**
+     * Whether the boxes in two occupied slots overlap; touching edges count.
+     */
+    public boolean overlaps(int slotA, int slotB) {
+        return minX[slotA] <= maxX[slotB] && minX[slotB] <= maxX[slotA]
+            && minY[slotA] <= maxY[slotB] && minY[slotB] <= maxY[slotA];
+    }
+
+    /**
+     * Writes the slots whose boxes overlap the given region into {@code out}.
+     *
+     * @return the number of slots found, which may exceed {@code out.length};
+     *     only the first {@code out.length} are written
+     */
+    public int query(float minX, float minY, float maxX, float maxY, int[] out) {
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            if (flags[i] != 0
+                && this.minX[i] <= maxX && minX <= this.maxX[i]
+                && this.minY[i] <= maxY && minY <= this.maxY[i]) {
+                if (found < out.length) {
+                    out[found] = i;
+                }
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= size) {
+            throw new IllegalArgumentException("slot must be in [0, " + size + ")");
+        }
+    }
+}
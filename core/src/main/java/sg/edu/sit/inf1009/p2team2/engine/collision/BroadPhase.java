@@ -0,0 +1,36 @@
+package sg.edu.sit.inf1009.p2team2.engine.collision;
+
+/**
+ * Broad-phase strategy used by {@link CollisionDetector} to find candidate
+ * pairs before the narrow-phase shape tests.
+ *
+ * Each frame the detector calls {@link #begin()}, reports every collider's
+ * bounding box once through {@link #add}, then calls {@link #computePairs()}
+ * and reads the pairs back. Ids are stable entity ids, so implementations may
+ * keep state between frames; an id not reported in a frame is gone.
+ */
+public interface BroadPhase {
+    void begin();
+
+    void add(int id, float minX, float minY, float maxX, float maxY);
+
+    /**
+     * Variant that tells the broad phase the collider never moves.
+     * Implementations that do not exploit this treat it like {@link #add}.
+     */
+    default void add(int id, float minX, float minY, float maxX, float maxY, boolean staticCollider) {
+        add(id, minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Finds every pair of boxes reported this frame that touch. Each pair is
+     * reported once, in no particular order.
+     */
+    void computePairs();
+
+    int getPairCount();
+
+    int getPairA(int index);
+
+    int getPairB(int index);
+}
@@ -5,24 +5,49 @@ import sg.edu.sit.inf1009.p2team2.engine.entity.Entity;
 
 /**
  * Collision data container between two entities.
+ *
+ * Instances can be reused: {@link #set(Entity, Entity)} rebinds the pair and
+ * clears the contact data, and the normal and point vectors are owned by the
+ * collision and written in place.
  */
 public class Collision {
-    private final Entity entityA;
-    private final Entity entityB;
+    private Entity entityA;
+    private Entity entityB;
     private float penetrationDepth;
-    private Vector2 contactNormal;
-    private Vector2 contactPoint;
-    private final long timestamp;
+    private final Vector2 contactNormal;
+    private final Vector2 contactPoint;
+    private long timestamp;
+    private boolean trigger;
+    private float timeOfImpact;
+    private float normalImpulse;
+
+    public Collision() {
+        this(null, null);
+    }
 
     public Collision(Entity entityA, Entity entityB) {
-        this.entityA = entityA;
-        this.entityB = entityB;
-        this.penetrationDepth = 0f;
         this.contactNormal = new Vector2();
         this.contactPoint = new Vector2();
+        set(entityA, entityB);
         this.timestamp = System.currentTimeMillis();
     }
 
+    /**
+     * Rebinds this collision to a new pair and resets the contact data.
+     * The timestamp is kept; whoever owns the record stamps it.
+     */
+    public Collision set(Entity entityA, Entity entityB) {
+        this.entityA = entityA;
+        this.entityB = entityB;
+        this.penetrationDepth = 0f;
+        this.contactNormal.setZero();
+        this.contactPoint.setZero();
+        this.trigger = false;
+        this.timeOfImpact = 1f;
+        this.normalImpulse = 0f;
+        return this;
+    }
+
     public Entity getEntityA() {
         return entityA;
     }
@@ -43,19 +68,91 @@ public class Collision {
         return contactNormal;
     }
 
+    /**
+     * Copies every field of {@code other} into this collision.
+     */
+    public Collision set(Collision other) {
+        this.entityA = other.entityA;
+        this.entityB = other.entityB;
+        this.penetrationDepth = other.penetrationDepth;
+        this.contactNormal.set(other.contactNormal);
+        this.contactPoint.set(other.contactPoint);
+        this.timestamp = other.timestamp;
+        this.trigger = other.trigger;
+        this.timeOfImpact = other.timeOfImpact;
+        this.normalImpulse = other.normalImpulse;
+        return this;
+    }
+
+    /**
+     * Copies the given normal; {@code null} clears it.
+     */
     public void setContactNormal(Vector2 normal) {
-        this.contactNormal = normal;
+        if (normal == null) {
+            contactNormal.setZero();
+        } else {
+            contactNormal.set(normal);
+        }
     }
 
     public Vector2 getContactPoint() {
         return contactPoint;
     }
 
+    /**
+     * Copies the given point; {@code null} clears it.
+     */
     public void setContactPoint(Vector2 point) {
-        this.contactPoint = point;
+        if (point == null) {
+            contactPoint.setZero();
+        } else {
+            contactPoint.set(point);
+        }
+    }
+
+    /**
+     * Whether either side is a trigger collider. Trigger collisions only
+     * record the pair; they carry no contact data and are not resolved.
+     */
+    public boolean isTrigger() {
+        return trigger;
+    }
+
+    public void setTrigger(boolean trigger) {
+        this.trigger = trigger;
+    }
+
+    /**
+     * Fraction of the last step, in [0, 1], at which the pair first touched.
+     * Contacts found by the discrete test report 1; lower values come from
+     * the swept test for fast movers, in which case the shapes may no longer
+     * overlap and the penetration depth is 0.
+     */
+    public float getTimeOfImpact() {
+        return timeOfImpact;
+    }
+
+    public void setTimeOfImpact(float timeOfImpact) {
+        this.timeOfImpact = timeOfImpact;
+    }
+
+    /**
+     * Accumulated normal impulse from the iterative solver. Set before solving
+     * to warm start from the previous frame; holds the solved value after.
+     */
+    public float getNormalImpulse() {
+        return normalImpulse;
+    }
+
+    public void setNormalImpulse(float normalImpulse) {
+        this.normalImpulse = normalImpulse;
     }
 
     public long getTimestamp() {
         return timestamp;
     }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
 }
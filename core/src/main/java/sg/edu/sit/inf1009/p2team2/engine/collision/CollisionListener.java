@@ -0,0 +1,22 @@
+package sg.edu.sit.inf1009.p2team2.engine.collision;
+
+import sg.edu.sit.inf1009.p2team2.engine.entity.Entity;
+
+/**
+ * Receives contact lifecycle events from {@link CollisionManager}.
+ *
+ * The {@link Collision} passed to enter and stay is reused by the manager
+ * and is only valid during the callback. Exit receives the entities of the
+ * pair as they were last seen touching; either may already have been
+ * removed from its manager.
+ */
+public interface CollisionListener {
+    default void onCollisionEnter(Collision collision) {
+    }
+
+    default void onCollisionStay(Collision collision) {
+    }
+
+    default void onCollisionExit(Entity entityA, Entity entityB) {
+    }
+}
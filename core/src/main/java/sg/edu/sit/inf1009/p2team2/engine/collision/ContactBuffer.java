@@ -0,0 +1,83 @@
+package sg.edu.sit.inf1009.p2team2.engine.collision;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import sg.edu.sit.inf1009.p2team2.engine.entity.Entity;
+
+/**
+ * Growable list of reusable {@link Collision} records.
+ *
+ * {@link #clear()} keeps the records, so a buffer that is cleared and refilled
+ * every frame stops allocating once it has reached its peak size. Records
+ * handed out are only valid until the next {@link #clear()}; copy anything
+ * that must outlive the frame.
+ */
+public final class ContactBuffer extends AbstractList<Collision> implements RandomAccess {
+    private Collision[] contacts = new Collision[16];
+    private int size;
+    private long timestamp;
+
+    /**
+     * Time, in milliseconds, stamped on every record obtained from now on.
+     */
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns the next free record, rebound to the given pair.
+     */
+    public Collision obtain(Entity entityA, Entity entityB) {
+        if (size == contacts.length) {
+            contacts = Arrays.copyOf(contacts, size * 2);
+        }
+        Collision contact = contacts[size];
+        if (contact == null) {
+            contact = new Collision();
+            contacts[size] = contact;
+        }
+        size++;
+        contact.set(entityA, entityB);
+        contact.setTimestamp(timestamp);
+        return contact;
+    }
+
+    /**
+     * Gives back the record returned by the last {@link #obtain}, e.g. when
+     * the narrow phase rejected the pair.
+     */
+    public void discardLast() {
+        if (size > 0) {
+            contacts[--size].set(null, null);
+        }
+    }
+
+    @Override
+    public Collision get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " out of range [0, " + size + ")");
+        }
+        return contacts[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Empties the buffer, keeping the records for reuse.
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            contacts[i].set(null, null);
+        }
+        size = 0;
+    }
+}
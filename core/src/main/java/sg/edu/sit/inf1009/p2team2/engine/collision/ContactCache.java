@@ -0,0 +1,276 @@
+package sg.edu.sit.inf1009.p2team2.engine.collision;
+
+import java.util.Arrays;
+import java.util.function.BiPredicate;
+import sg.edu.sit.inf1009.p2team2.engine.entity.Entity;
+
+/**
+ * Set of touching entity pairs that persists between frames, used to turn
+ * per-frame contacts into enter/stay/exit events.
+ *
+ * Pairs are keyed by their packed ids (smaller id in the high 32 bits) in an
+ * open-addressing table with linear probing, so tracking a contact does not
+ * allocate once the table has grown. Each entry also keeps the entity
+ * handles; a key whose handles changed means an id was recycled, which is
+ * reported as the old pair exiting and the new one entering.
+ *
+ * Entries also keep the solver's accumulated normal impulse so the next
+ * frame can warm start from it (see {@link #getImpulse}).
+ *
+ * Per frame: {@link #begin()}, {@link #record} for every contact, then
+ * {@link #end} to report and drop the pairs that were not recorded.
+ */
+public final class ContactCache {
+    private static final long EMPTY = -1L;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] keys = newKeyTable(INITIAL_CAPACITY);
+    private long[] handlesA = new long[INITIAL_CAPACITY];
+    private long[] handlesB = new long[INITIAL_CAPACITY];
+    private Entity[] entitiesA = new Entity[INITIAL_CAPACITY];
+    private Entity[] entitiesB = new Entity[INITIAL_CAPACITY];
+    private int[] stamps = new int[INITIAL_CAPACITY];
+    private float[] impulses = new float[INITIAL_CAPACITY];
+    private int size;
+    private int frame;
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * True when the pair is cached and neither of its ids now belongs to a
+     * different entity.
+     */
+    public boolean contains(Entity entityA, Entity entityB) {
+        return findPair(entityA, entityB) >= 0;
+    }
+
+    /**
+     * Normal impulse stored for the pair, or 0 when the pair is not cached
+     * or one of its ids now belongs to a different entity.
+     */
+    public float getImpulse(Entity entityA, Entity entityB) {
+        int slot = findPair(entityA, entityB);
+        return slot < 0 ? 0f : impulses[slot];
+    }
+
+    public void begin() {
+        frame++;
+    }
+
+    /**
+     * Marks the collision's pair as touching this frame and reports it as
+     * entered or stayed.
+     */
+    public void record(Collision collision, CollisionListener listener) {
+        Entity entityA = collision.getEntityA();
+        Entity entityB = collision.getEntityB();
+        if (entityA.getId() > entityB.getId()) {
+            Entity swap = entityA;
+            entityA = entityB;
+            entityB = swap;
+        }
+        long key = key(entityA, entityB);
+        int slot = find(key);
+        if (slot >= 0) {
+            stamps[slot] = frame;
+            impulses[slot] = collision.getNormalImpulse();
+            if (handlesA[slot] == entityA.getHandle() && handlesB[slot] == entityB.getHandle()) {
+                listener.onCollisionStay(collision);
+                return;
+            }
+            listener.onCollisionExit(entitiesA[slot], entitiesB[slot]);
+            store(slot, entityA, entityB);
+            listener.onCollisionEnter(collision);
+            return;
+        }
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+        }
+        slot = probe(key);
+        keys[slot] = key;
+        stamps[slot] = frame;
+        impulses[slot] = collision.getNormalImpulse();
+        store(slot, entityA, entityB);
+        size++;
+        listener.onCollisionEnter(collision);
+    }
+
+    /**
+     * Marks every pair accepted by {@code filter} as touching this frame
+     * without reporting it, e.g. pairs the detector skipped because neither
+     * body can move.
+     */
+    public void keep(BiPredicate<Entity, Entity> filter) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY && stamps[slot] != frame && filter.test(entitiesA[slot], entitiesB[slot])) {
+                stamps[slot] = frame;
+            }
+        }
+    }
+
+    /**
+     * Reports and drops every pair not recorded since {@link #begin()}.
+     */
+    public void end(CollisionListener listener) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            while (keys[slot] != EMPTY && stamps[slot] != frame) {
+                Entity entityA = entitiesA[slot];
+                Entity entityB = entitiesB[slot];
+                delete(slot);
+                listener.onCollisionExit(entityA, entityB);
+            }
+        }
+    }
+
+    /**
+     * Reports and drops every pair involving the entity's id.
+     */
+    public void remove(Entity entity, CollisionListener listener) {
+        int id = entity.getId();
+        for (int slot = 0; slot < keys.length; slot++) {
+            while (keys[slot] != EMPTY && ((int) (keys[slot] >>> 32) == id || (int) keys[slot] == id)) {
+                Entity entityA = entitiesA[slot];
+                Entity entityB = entitiesB[slot];
+                delete(slot);
+                listener.onCollisionExit(entityA, entityB);
+            }
+        }
+    }
+
+    /**
+     * Drops every pair without reporting it.
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(entitiesA, null);
+        Arrays.fill(entitiesB, null);
+        size = 0;
+    }
+
+    private void store(int slot, Entity entityA, Entity entityB) {
+        handlesA[slot] = entityA.getHandle();
+        handlesB[slot] = entityB.getHandle();
+        entitiesA[slot] = entityA;
+        entitiesB[slot] = entityB;
+    }
+
+    /**
+     * Slot of the pair if it is cached under the entities' current handles,
+     * otherwise -1.
+     */
+    private int findPair(Entity entityA, Entity entityB) {
+        if (entityA == null || entityB == null) {
+            return -1;
+        }
+        int slot = find(key(entityA, entityB));
+        if (slot < 0) {
+            return -1;
+        }
+        boolean ordered = entityA.getId() <= entityB.getId();
+        long handleA = (ordered ? entityA : entityB).getHandle();
+        long handleB = (ordered ? entityB : entityA).getHandle();
+        return handlesA[slot] == handleA && handlesB[slot] == handleB ? slot : -1;
+    }
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        for (int slot = hash(key) & mask; keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int probe(long key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Backward-shift deletion: later entries of the probe run move up so
+     * lookups never need tombstones. The freed slot may be refilled.
+     */
+    private void delete(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = hash(keys[next]) & mask;
+            // Move the entry if its home slot is not cyclically inside (hole, next].
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                move(next, hole);
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+        entitiesA[hole] = null;
+        entitiesB[hole] = null;
+        size--;
+    }
+
+    private void move(int from, int to) {
+        keys[to] = keys[from];
+        stamps[to] = stamps[from];
+        impulses[to] = impulses[from];
+        handlesA[to] = handlesA[from];
+        handlesB[to] = handlesB[from];
+        entitiesA[to] = entitiesA[from];
+        entitiesB[to] = entitiesB[from];
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldHandlesA = handlesA;
+        long[] oldHandlesB = handlesB;
+        Entity[] oldEntitiesA = entitiesA;
+        Entity[] oldEntitiesB = entitiesB;
+        int[] oldStamps = stamps;
+        float[] oldImpulses = impulses;
+        int capacity = oldKeys.length * 2;
+        keys = newKeyTable(capacity);
+        handlesA = new long[capacity];
+        handlesB = new long[capacity];
+        entitiesA = new Entity[capacity];
+        entitiesB = new Entity[capacity];
+        stamps = new int[capacity];
+        impulses = new float[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) {
+                continue;
+            }
+            int slot = probe(oldKeys[i]);
+            keys[slot] = oldKeys[i];
+            handlesA[slot] = oldHandlesA[i];
+            handlesB[slot] = oldHandlesB[i];
+            entitiesA[slot] = oldEntitiesA[i];
+            entitiesB[slot] = oldEntitiesB[i];
+            stamps[slot] = oldStamps[i];
+            impulses[slot] = oldImpulses[i];
+        }
+    }
+
+    private static long key(Entity entityA, Entity entityB) {
+        int a = Math.min(entityA.getId(), entityB.getId());
+        int b = Math.max(entityA.getId(), entityB.getId());
+        return ((long) a << 32) | (b & 0xFFFFFFFFL);
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static long[] newKeyTable(int capacity) {
+        long[] table = new long[capacity];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+}
@@ -0,0 +1,598 @@
+package sg.edu.sit.inf1009.p2team2.engine.collision;
+
+import java.util.Arrays;
+
+/**
+ * Dynamic bounding-volume tree broad phase.
+ *
+ * Every collider is a leaf holding a "fat" box: its bounds grown by a margin.
+ * A leaf is only removed and reinserted when the collider's real bounds leave
+ * its fat box, so slow or resting objects cost nothing per frame and static
+ * colliders are inserted once. Insertion picks the sibling with the lowest
+ * perimeter cost and rotations keep the tree height balanced.
+ *
+ * Pairs are found by querying the tree with each non-static collider, so
+ * static-vs-static pairs are never visited. The same tree answers
+ * {@link #queryRegion region}, {@link #queryPoint point} and
+ * {@link #raycast ray} queries against the bounds reported in the last frame.
+ *
+ * Nodes are stored in parallel arrays with a free list, so a steady-state
+ * frame does not allocate.
+ */
+public final class DynamicAabbTree implements BroadPhase {
+    public static final float DEFAULT_MARGIN = 4f;
+
+    private static final int NULL = -1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Receives ids found by {@link #queryRegion} and {@link #queryPoint}.
+     */
+    @FunctionalInterface
+    public interface QueryCallback {
+        /**
+         * @return false to stop the query
+         */
+        boolean report(int id);
+    }
+
+    private final float margin;
+
+    // Node storage; parent doubles as the free-list link.
+    private float[] nodeMinX = new float[INITIAL_CAPACITY];
+    private float[] nodeMinY = new float[INITIAL_CAPACITY];
+    private float[] nodeMaxX = new float[INITIAL_CAPACITY];
+    private float[] nodeMaxY = new float[INITIAL_CAPACITY];
+    private int[] parent = new int[INITIAL_CAPACITY];
+    private int[] child1 = new int[INITIAL_CAPACITY];
+    private int[] child2 = new int[INITIAL_CAPACITY];
+    private int[] height = new int[INITIAL_CAPACITY];
+    private int[] nodeId = new int[INITIAL_CAPACITY];
+    private int root = NULL;
+    private int freeNode = NULL;
+    private int nodeCapacity;
+
+    // Per-id state.
+    private int[] leafById = newFilled(INITIAL_CAPACITY, NULL);
+    private float[] minX = new float[INITIAL_CAPACITY];
+    private float[] minY = new float[INITIAL_CAPACITY];
+    private float[] maxX = new float[INITIAL_CAPACITY];
+    private float[] maxY = new float[INITIAL_CAPACITY];
+    private boolean[] isStatic = new boolean[INITIAL_CAPACITY];
+    private boolean[] seen = new boolean[INITIAL_CAPACITY];
+    private int[] trackedSlot = new int[INITIAL_CAPACITY];
+    private int[] tracked = new int[INITIAL_CAPACITY];
+    private int trackedCount;
+
+    private int[] stack = new int[INITIAL_CAPACITY];
+    private long[] pairs = new long[INITIAL_CAPACITY];
+    private int pairCount;
+    private float rayFraction = -1f;
+
+    public DynamicAabbTree() {
+        this(DEFAULT_MARGIN);
+    }
+
+    public DynamicAabbTree(float margin) {
+        if (!(margin >= 0f)) {
+            throw new IllegalArgumentException("margin must be >= 0");
+        }
+        this.margin = margin;
+    }
+
+    @Override
+    public void begin() {
+        for (int i = 0; i < trackedCount; i++) {
+            seen[tracked[i]] = false;
+        }
+        pairCount = 0;
+    }
+
+    @Override
+    public void add(int id, float boxMinX, float boxMinY, float boxMaxX, float boxMaxY) {
+        add(id, boxMinX, boxMinY, boxMaxX, boxMaxY, false);
+    }
+
+    @Override
+    public void add(int id, float boxMinX, float boxMinY, float boxMaxX, float boxMaxY, boolean staticCollider) {
+        if (id < 0) {
+            throw new IllegalArgumentException("id must be >= 0");
+        }
+        ensureIdCapacity(id + 1);
+        minX[id] = boxMinX;
+        minY[id] = boxMinY;
+        maxX[id] = boxMaxX;
+        maxY[id] = boxMaxY;
+        isStatic[id] = staticCollider;
+        seen[id] = true;
+
+        int leaf = leafById[id];
+        if (leaf == NULL) {
+            leaf = allocateNode();
+            nodeId[leaf] = id;
+            leafById[id] = leaf;
+            trackedSlot[id] = trackedCount;
+            tracked[trackedCount++] = id;
+            fatten(leaf, id);
+            insertLeaf(leaf);
+        } else if (!fatContains(leaf, id)) {
+            removeLeaf(leaf);
+            fatten(leaf, id);
+            insertLeaf(leaf);
+        }
+    }
+
+    @Override
+    public void computePairs() {
+        pairCount = 0;
+        for (int i = trackedCount - 1; i >= 0; i--) {
+            if (!seen[tracked[i]]) {
+                untrack(tracked[i]);
+            }
+        }
+        for (int i = 0; i < trackedCount; i++) {
+            int id = tracked[i];
+            if (isStatic[id]) {
+                continue;
+            }
+            int top = push(0, root);
+            while (top > 0) {
+                int node = stack[--top];
+                if (!overlapsNode(node, minX[id], minY[id], maxX[id], maxY[id])) {
+                    continue;
+                }
+                if (child1[node] == NULL) {
+                    int other = nodeId[node];
+                    // Dynamic pairs are found from both sides; keep one.
+                    if (other != id && (isStatic[other] || id < other) && overlapsId(other, id)) {
+                        emit(id, other);
+                    }
+                    continue;
+                }
+                top = push(top, child1[node]);
+                top = push(top, child2[node]);
+            }
+        }
+    }
+
+    @Override
+    public int getPairCount() {
+        return pairCount;
+    }
+
+    @Override
+    public int getPairA(int index) {
+        return (int) (pairs[index] >>> 32);
+    }
+
+    @Override
+    public int getPairB(int index) {
+        return (int) pairs[index];
+    }
+
+    /**
+     * Reports every id whose bounds touch the given box.
+     */
+    public void queryRegion(float boxMinX, float boxMinY, float boxMaxX, float boxMaxY, QueryCallback callback) {
+        int top = push(0, root);
+        while (top > 0) {
+            int node = stack[--top];
+            if (!overlapsNode(node, boxMinX, boxMinY, boxMaxX, boxMaxY)) {
+                continue;
+            }
+            if (child1[node] == NULL) {
+                int id = nodeId[node];
+                if (minX[id] <= boxMaxX && boxMinX <= maxX[id] && minY[id] <= boxMaxY && boxMinY <= maxY[id]
+                    && !callback.report(id)) {
+                    return;
+                }
+                continue;
+            }
+            top = push(top, child1[node]);
+            top = push(top, child2[node]);
+        }
+    }
+
+    /**
+     * Reports every id whose bounds contain the point, e.g. for mouse hit-testing.
+     */
+    public void queryPoint(float x, float y, QueryCallback callback) {
+        queryRegion(x, y, x, y, callback);
+    }
+
+    /**
+     * Returns the id of the first bounds hit by the segment from (x1, y1) to
+     * (x2, y2), or -1 when nothing is hit. The hit position along the segment
+     * is available from {@link #getRaycastFraction()}.
+     */
+    public int raycast(float x1, float y1, float x2, float y2) {
+        float dx = x2 - x1;
+        float dy = y2 - y1;
+        float best = Float.MAX_VALUE;
+        int hit = NULL;
+        int top = push(0, root);
+        while (top > 0) {
+            int node = stack[--top];
+            float t = slab(nodeMinX[node], nodeMinY[node], nodeMaxX[node], nodeMaxY[node], x1, y1, dx, dy);
+            if (t < 0f || t >= best) {
+                continue;
+            }
+            if (child1[node] == NULL) {
+                int id = nodeId[node];
+                float tight = slab(minX[id], minY[id], maxX[id], maxY[id], x1, y1, dx, dy);
+                if (tight >= 0f && tight < best) {
+                    best = tight;
+                    hit = id;
+                }
+                continue;
+            }
+            top = push(top, child1[node]);
+            top = push(top, child2[node]);
+        }
+        rayFraction = hit == NULL ? -1f : best;
+        return hit;
+    }
+
+    /**
+     * Fraction in [0, 1] along the last ray where it entered the hit bounds,
+     * or -1 when the last {@link #raycast} missed.
+     */
+    public float getRaycastFraction() {
+        return rayFraction;
+    }
+
+    /**
+     * Height of the tree; 0 when empty or holding a single leaf.
+     */
+    public int getHeight() {
+        return root == NULL ? 0 : height[root];
+    }
+
+    public int size() {
+        return trackedCount;
+    }
+
+    private void untrack(int id) {
+        int leaf = leafById[id];
+        removeLeaf(leaf);
+        freeNode(leaf);
+        leafById[id] = NULL;
+        int slot = trackedSlot[id];
+        int last = tracked[--trackedCount];
+        tracked[slot] = last;
+        trackedSlot[last] = slot;
+    }
+
+    private void insertLeaf(int leaf) {
+        if (root == NULL) {
+            root = leaf;
+            parent[root] = NULL;
+            return;
+        }
+
+        // Descend towards the sibling that grows the tree's perimeter the least.
+        int index = root;
+        while (child1[index] != NULL) {
+            int c1 = child1[index];
+            int c2 = child2[index];
+            float area = perimeter(nodeMinX[index], nodeMinY[index], nodeMaxX[index], nodeMaxY[index]);
+            float combined = unionPerimeter(index, leaf);
+            float cost = 2f * combined;
+            float inheritance = 2f * (combined - area);
+            float cost1 = descendCost(c1, leaf) + inheritance;
+            float cost2 = descendCost(c2, leaf) + inheritance;
+            if (cost < cost1 && cost < cost2) {
+                break;
+            }
+            index = cost1 < cost2 ? c1 : c2;
+        }
+
+        int sibling = index;
+        int oldParent = parent[sibling];
+        int newParent = allocateNode();
+        parent[newParent] = oldParent;
+        setUnion(newParent, leaf, sibling);
+        height[newParent] = height[sibling] + 1;
+        if (oldParent != NULL) {
+            if (child1[oldParent] == sibling) {
+                child1[oldParent] = newParent;
+            } else {
+                child2[oldParent] = newParent;
+            }
+        } else {
+            root = newParent;
+        }
+        child1[newParent] = sibling;
+        child2[newParent] = leaf;
+        parent[sibling] = newParent;
+        parent[leaf] = newParent;
+
+        refitFrom(parent[leaf]);
+    }
+
+    private void removeLeaf(int leaf) {
+        if (leaf == root) {
+            root = NULL;
+            return;
+        }
+        int p = parent[leaf];
+        int grandParent = parent[p];
+        int sibling = child1[p] == leaf ? child2[p] : child1[p];
+        if (grandParent != NULL) {
+            if (child1[grandParent] == p) {
+                child1[grandParent] = sibling;
+            } else {
+                child2[grandParent] = sibling;
+            }
+            parent[sibling] = grandParent;
+            freeNode(p);
+            refitFrom(grandParent);
+        } else {
+            root = sibling;
+            parent[sibling] = NULL;
+            freeNode(p);
+        }
+    }
+
+    private void refitFrom(int index) {
+        while (index != NULL) {
+            index = balance(index);
+            int c1 = child1[index];
+            int c2 = child2[index];
+            height[index] = 1 + Math.max(height[c1], height[c2]);
+            setUnion(index, c1, c2);
+            index = parent[index];
+        }
+    }
+
+    /**
+     * Rotates {@code a} if its children's heights differ by more than one and
+     * returns the node now at its position.
+     */
+    private int balance(int a) {
+        if (child1[a] == NULL || height[a] < 2) {
+            return a;
+        }
+        int b = child1[a];
+        int c = child2[a];
+        int diff = height[c] - height[b];
+
+        if (diff > 1) {
+            int f = child1[c];
+            int g = child2[c];
+            child1[c] = a;
+            parent[c] = parent[a];
+            parent[a] = c;
+            replaceChild(parent[c], a, c);
+            if (height[f] > height[g]) {
+                child2[c] = f;
+                child2[a] = g;
+                parent[g] = a;
+                setUnion(a, b, g);
+                setUnion(c, a, f);
+                height[a] = 1 + Math.max(height[b], height[g]);
+                height[c] = 1 + Math.max(height[a], height[f]);
+            } else {
+                child2[c] = g;
+                child2[a] = f;
+                parent[f] = a;
+                setUnion(a, b, f);
+                setUnion(c, a, g);
+                height[a] = 1 + Math.max(height[b], height[f]);
+                height[c] = 1 + Math.max(height[a], height[g]);
+            }
+            return c;
+        }
+
+        if (diff < -1) {
+            int d = child1[b];
+            int e = child2[b];
+            child1[b] = a;
+            parent[b] = parent[a];
+            parent[a] = b;
+            replaceChild(parent[b], a, b);
+            if (height[d] > height[e]) {
+                child2[b] = d;
+                child1[a] = e;
+                parent[e] = a;
+                setUnion(a, c, e);
+                setUnion(b, a, d);
+                height[a] = 1 + Math.max(height[c], height[e]);
+                height[b] = 1 + Math.max(height[a], height[d]);
+            } else {
+                child2[b] = e;
+                child1[a] = d;
+                parent[d] = a;
+                setUnion(a, c, d);
+                setUnion(b, a, e);
+                height[a] = 1 + Math.max(height[c], height[d]);
+                height[b] = 1 + Math.max(height[a], height[e]);
+            }
+            return b;
+        }
+        return a;
+    }
+
+    private void replaceChild(int node, int oldChild, int newChild) {
+        if (node == NULL) {
+            root = newChild;
+        } else if (child1[node] == oldChild) {
+            child1[node] = newChild;
+        } else {
+            child2[node] = newChild;
+        }
+    }
+
+    private float descendCost(int child, int leaf) {
+        float combined = unionPerimeter(child, leaf);
+        if (child1[child] == NULL) {
+            return combined;
+        }
+        return combined - perimeter(nodeMinX[child], nodeMinY[child], nodeMaxX[child], nodeMaxY[child]);
+    }
+
+    private float unionPerimeter(int a, int b) {
+        return perimeter(
+            Math.min(nodeMinX[a], nodeMinX[b]),
+            Math.min(nodeMinY[a], nodeMinY[b]),
+            Math.max(nodeMaxX[a], nodeMaxX[b]),
+            Math.max(nodeMaxY[a], nodeMaxY[b]));
+    }
+
+    private void setUnion(int target, int a, int b) {
+        nodeMinX[target] = Math.min(nodeMinX[a], nodeMinX[b]);
+        nodeMinY[target] = Math.min(nodeMinY[a], nodeMinY[b]);
+        nodeMaxX[target] = Math.max(nodeMaxX[a], nodeMaxX[b]);
+        nodeMaxY[target] = Math.max(nodeMaxY[a], nodeMaxY[b]);
+    }
+
+    private void fatten(int leaf, int id) {
+        nodeMinX[leaf] = minX[id] - margin;
+        nodeMinY[leaf] = minY[id] - margin;
+        nodeMaxX[leaf] = maxX[id] + margin;
+        nodeMaxY[leaf] = maxY[id] + margin;
+    }
+
+    private boolean fatContains(int leaf, int id) {
+        return nodeMinX[leaf] <= minX[id] && nodeMinY[leaf] <= minY[id]
+            && nodeMaxX[leaf] >= maxX[id] && nodeMaxY[leaf] >= maxY[id];
+    }
+
+    private boolean overlapsNode(int node, float boxMinX, float boxMinY, float boxMaxX, float boxMaxY) {
+        return nodeMinX[node] <= boxMaxX && boxMinX <= nodeMaxX[node]
+            && nodeMinY[node] <= boxMaxY && boxMinY <= nodeMaxY[node];
+    }
+
+    private boolean overlapsId(int a, int b) {
+        return minX[a] <= maxX[b] && minX[b] <= maxX[a] && minY[a] <= maxY[b] && minY[b] <= maxY[a];
+    }
+
+    private void emit(int idA, int idB) {
+        if (pairCount == pairs.length) {
+            pairs = Arrays.copyOf(pairs, pairCount * 2);
+        }
+        int a = Math.min(idA, idB);
+        int b = Math.max(idA, idB);
+        pairs[pairCount++] = ((long) a << 32) | (b & 0xFFFFFFFFL);
+    }
+
+    private int push(int top, int node) {
+        if (node == NULL) {
+            return top;
+        }
+        if (top == stack.length) {
+            stack = Arrays.copyOf(stack, top * 2);
+        }
+        stack[top] = node;
+        return top + 1;
+    }
+
+    private int allocateNode() {
+        if (freeNode == NULL) {
+            growNodes();
+        }
+        int node = freeNode;
+        freeNode = parent[node];
+        parent[node] = NULL;
+        child1[node] = NULL;
+        child2[node] = NULL;
+        height[node] = 0;
+        nodeId[node] = NULL;
+        return node;
+    }
+
+    private void freeNode(int node) {
+        parent[node] = freeNode;
+        height[node] = -1;
+        freeNode = node;
+    }
+
+    private void growNodes() {
+        int oldCapacity = nodeCapacity;
+        int capacity = oldCapacity == 0 ? parent.length : oldCapacity * 2;
+        if (capacity > parent.length) {
+            nodeMinX = Arrays.copyOf(nodeMinX, capacity);
+            nodeMinY = Arrays.copyOf(nodeMinY, capacity);
+            nodeMaxX = Arrays.copyOf(nodeMaxX, capacity);
+            nodeMaxY = Arrays.copyOf(nodeMaxY, capacity);
+            parent = Arrays.copyOf(parent, capacity);
+            child1 = Arrays.copyOf(child1, capacity);
+            child2 = Arrays.copyOf(child2, capacity);
+            height = Arrays.copyOf(height, capacity);
+            nodeId = Arrays.copyOf(nodeId, capacity);
+        }
+        for (int i = capacity - 1; i >= oldCapacity; i--) {
+            parent[i] = freeNode;
+            height[i] = -1;
+            freeNode = i;
+        }
+        nodeCapacity = capacity;
+    }
+
+    private void ensureIdCapacity(int required) {
+        if (required <= leafById.length) {
+            return;
+        }
+        int oldLength = leafById.length;
+        int capacity = Math.max(required, oldLength * 2);
+        leafById = Arrays.copyOf(leafById, capacity);
+        Arrays.fill(leafById, oldLength, capacity, NULL);
+        minX = Arrays.copyOf(minX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+        isStatic = Arrays.copyOf(isStatic, capacity);
+        seen = Arrays.copyOf(seen, capacity);
+        trackedSlot = Arrays.copyOf(trackedSlot, capacity);
+        tracked = Arrays.copyOf(tracked, capacity);
+    }
+
+    /**
+     * Slab test; returns the entry fraction in [0, 1] or -1 when the segment
+     * misses the box.
+     */
+    private static float slab(float boxMinX, float boxMinY, float boxMaxX, float boxMaxY,
+                              float x, float y, float dx, float dy) {
+        float tMin = 0f;
+        float tMax = 1f;
+        if (dx == 0f) {
+            if (x < boxMinX || x > boxMaxX) {
+                return -1f;
+            }
+        } else {
+            float inv = 1f / dx;
+            float t1 = (boxMinX - x) * inv;
+            float t2 = (boxMaxX - x) * inv;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+            if (tMin > tMax) {
+                return -1f;
+            }
+        }
+        if (dy == 0f) {
+            if (y < boxMinY || y > boxMaxY) {
+                return -1f;
+            }
+        } else {
+            float inv = 1f / dy;
+            float t1 = (boxMinY - y) * inv;
+            float t2 = (boxMaxY - y) * inv;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+            if (tMin > tMax) {
+                return -1f;
+            }
+        }
+        return tMin;
+    }
+
+    private static float perimeter(float boxMinX, float boxMinY, float boxMaxX, float boxMaxY) {
+        return 2f * ((boxMaxX - boxMinX) + (boxMaxY - boxMinY));
+    }
+
+    private static int[] newFilled(int capacity, int value) {
+        int[] array = new int[capacity];
+        Arrays.fill(array, value);
+        return array;
+    }
+}
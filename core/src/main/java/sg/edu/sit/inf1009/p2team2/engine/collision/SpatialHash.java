@@ -0,0 +1,262 @@
+package sg.edu.sit.inf1009.p2team2.engine.collision;
+
+import java.util.Arrays;
+
+/**
+ * Uniform-grid spatial hash used as a collision broad phase.
+ *
+ * The grid is rebuilt every frame: {@link #begin()} empties it and each
+ * {@link #add} drops the box into every cell it covers. Only boxes that share
+ * a grid cell and touch are reported, each pair once.
+ *
+ * Cells live in an open-addressing table keyed by packed cell coordinates and
+ * each cell holds an array-backed linked list of entries, so a steady-state
+ * frame does not allocate. Boxes that would span more than
+ * {@link #MAX_CELLS_PER_PROXY} cells are kept aside and tested against every
+ * other box instead of flooding the grid.
+ */
+public final class SpatialHash implements BroadPhase {
+    public static final float DEFAULT_CELL_SIZE = 64f;
+    static final int MAX_CELLS_PER_PROXY = 256;
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private float cellSize;
+    private float inverseCellSize;
+
+    private long[] cellKeys = newKeyTable(INITIAL_CAPACITY * 2);
+    private int[] cellHeads = new int[INITIAL_CAPACITY * 2];
+    private int[] usedCells = new int[INITIAL_CAPACITY];
+    private int cellCount;
+
+    private int[] entryProxy = new int[INITIAL_CAPACITY];
+    private int[] entryNext = new int[INITIAL_CAPACITY];
+    private int entryCount;
+
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private float[] minX = new float[INITIAL_CAPACITY];
+    private float[] minY = new float[INITIAL_CAPACITY];
+    private float[] maxX = new float[INITIAL_CAPACITY];
+    private float[] maxY = new float[INITIAL_CAPACITY];
+    private int[] minCellX = new int[INITIAL_CAPACITY];
+    private int[] minCellY = new int[INITIAL_CAPACITY];
+    private boolean[] isOversized = new boolean[INITIAL_CAPACITY];
+    private int proxyCount;
+
+    private int[] oversized = new int[8];
+    private int oversizedCount;
+
+    private long[] pairs = new long[INITIAL_CAPACITY];
+    private int pairCount;
+
+    public SpatialHash() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    public SpatialHash(float cellSize) {
+        setCellSize(cellSize);
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Changes the grid resolution. Takes effect from the next {@link #begin()}.
+     */
+    public void setCellSize(float cellSize) {
+        if (!(cellSize > 0f) || Float.isInfinite(cellSize)) {
+            throw new IllegalArgumentException("cellSize must be > 0");
+        }
+        this.cellSize = cellSize;
+        this.inverseCellSize = 1f / cellSize;
+    }
+
+    @Override
+    public void begin() {
+        for (int i = 0; i < cellCount; i++) {
+            cellKeys[usedCells[i]] = EMPTY;
+        }
+        cellCount = 0;
+        entryCount = 0;
+        proxyCount = 0;
+        oversizedCount = 0;
+        pairCount = 0;
+    }
+
+    @Override
+    public void add(int id, float boxMinX, float boxMinY, float boxMaxX, float boxMaxY) {
+        int proxy = proxyCount++;
+        ensureProxyCapacity(proxyCount);
+        ids[proxy] = id;
+        minX[proxy] = boxMinX;
+        minY[proxy] = boxMinY;
+        maxX[proxy] = boxMaxX;
+        maxY[proxy] = boxMaxY;
+
+        int cx0 = cell(boxMinX);
+        int cy0 = cell(boxMinY);
+        int cx1 = cell(boxMaxX);
+        int cy1 = cell(boxMaxY);
+        minCellX[proxy] = cx0;
+        minCellY[proxy] = cy0;
+        isOversized[proxy] = false;
+
+        long span = ((long) cx1 - cx0 + 1L) * ((long) cy1 - cy0 + 1L);
+        if (span > MAX_CELLS_PER_PROXY) {
+            if (oversizedCount == oversized.length) {
+                oversized = Arrays.copyOf(oversized, oversizedCount * 2);
+            }
+            oversized[oversizedCount++] = proxy;
+            isOversized[proxy] = true;
+            return;
+        }
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                addEntry(slotFor(cx, cy), proxy);
+            }
+        }
+    }
+
+    @Override
+    public void computePairs() {
+        pairCount = 0;
+        for (int c = 0; c < cellCount; c++) {
+            int slot = usedCells[c];
+            long key = cellKeys[slot];
+            int cx = (int) (key >> 32);
+            int cy = (int) key;
+            for (int a = cellHeads[slot]; a >= 0; a = entryNext[a]) {
+                int p = entryProxy[a];
+                for (int b = entryNext[a]; b >= 0; b = entryNext[b]) {
+                    int q = entryProxy[b];
+                    // Report the pair only from the first cell both boxes cover.
+                    if (cx == Math.max(minCellX[p], minCellX[q])
+                        && cy == Math.max(minCellY[p], minCellY[q])) {
+                        emitIfTouching(p, q);
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < oversizedCount; i++) {
+            int p = oversized[i];
+            for (int q = 0; q < proxyCount; q++) {
+                if (q == p || (isOversized[q] && q < p)) {
+                    continue;
+                }
+                emitIfTouching(p, q);
+            }
+        }
+    }
+
+    @Override
+    public int getPairCount() {
+        return pairCount;
+    }
+
+    @Override
+    public int getPairA(int index) {
+        return (int) (pairs[index] >>> 32);
+    }
+
+    @Override
+    public int getPairB(int index) {
+        return (int) pairs[index];
+    }
+
+    private void emitIfTouching(int p, int q) {
+        if (minX[p] > maxX[q] || minX[q] > maxX[p] || minY[p] > maxY[q] || minY[q] > maxY[p]) {
+            return;
+        }
+        int a = Math.min(ids[p], ids[q]);
+        int b = Math.max(ids[p], ids[q]);
+        if (pairCount == pairs.length) {
+            pairs = Arrays.copyOf(pairs, pairCount * 2);
+        }
+        pairs[pairCount++] = ((long) a << 32) | (b & 0xFFFFFFFFL);
+    }
+
+    private int cell(float coordinate) {
+        return (int) Math.floor(coordinate * inverseCellSize);
+    }
+
+    private void addEntry(int slot, int proxy) {
+        if (entryCount == entryProxy.length) {
+            entryProxy = Arrays.copyOf(entryProxy, entryCount * 2);
+            entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+        }
+        int entry = entryCount++;
+        entryProxy[entry] = proxy;
+        entryNext[entry] = cellHeads[slot];
+        cellHeads[slot] = entry;
+    }
+
+    private int slotFor(int cx, int cy) {
+        long key = ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+        int mask = cellKeys.length - 1;
+        int slot = hash(key) & mask;
+        while (cellKeys[slot] != EMPTY) {
+            if (cellKeys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if ((cellCount + 1) * 2 > cellKeys.length) {
+            growCellTable();
+            return slotFor(cx, cy);
+        }
+        cellKeys[slot] = key;
+        cellHeads[slot] = -1;
+        if (cellCount == usedCells.length) {
+            usedCells = Arrays.copyOf(usedCells, cellCount * 2);
+        }
+        usedCells[cellCount++] = slot;
+        return slot;
+    }
+
+    private void growCellTable() {
+        long[] oldKeys = cellKeys;
+        int[] oldHeads = cellHeads;
+        int capacity = oldKeys.length * 2;
+        cellKeys = newKeyTable(capacity);
+        cellHeads = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < cellCount; i++) {
+            int oldSlot = usedCells[i];
+            int slot = hash(oldKeys[oldSlot]) & mask;
+            while (cellKeys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            cellKeys[slot] = oldKeys[oldSlot];
+            cellHeads[slot] = oldHeads[oldSlot];
+            usedCells[i] = slot;
+        }
+    }
+
+    private void ensureProxyCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        minX = Arrays.copyOf(minX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+        minCellX = Arrays.copyOf(minCellX, capacity);
+        minCellY = Arrays.copyOf(minCellY, capacity);
+        isOversized = Arrays.copyOf(isOversized, capacity);
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static long[] newKeyTable(int capacity) {
+        long[] table = new long[capacity];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+}
@@ -0,0 +1,187 @@
+package sg.edu.sit.inf1009.p2team2.engine.collision;
+
+import java.util.Arrays;
+
+/**
+ * Sort-and-sweep broad phase along the x axis.
+ *
+ * Box min/max x endpoints are kept in one array that persists between
+ * frames. Each frame the endpoint values are refreshed and the array is
+ * re-sorted with an insertion sort, which is close to linear while objects
+ * only move a little per frame. A single sweep then pairs every box with the
+ * boxes whose x interval is open at its min endpoint, filtered on y.
+ *
+ * Works best when most motion is along y (as with falling items), since the
+ * x order then barely changes.
+ */
+public final class SweepAndPrune implements BroadPhase {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private float[] minX = new float[INITIAL_CAPACITY];
+    private float[] minY = new float[INITIAL_CAPACITY];
+    private float[] maxX = new float[INITIAL_CAPACITY];
+    private float[] maxY = new float[INITIAL_CAPACITY];
+    private boolean[] tracked = new boolean[INITIAL_CAPACITY];
+    private boolean[] seen = new boolean[INITIAL_CAPACITY];
+    private int[] activeSlot = new int[INITIAL_CAPACITY];
+
+    // Endpoint data: id << 1 | (1 when the endpoint is a max).
+    private int[] endpoints = new int[INITIAL_CAPACITY * 2];
+    private float[] endpointValues = new float[INITIAL_CAPACITY * 2];
+    private int endpointCount;
+
+    private int[] active = new int[INITIAL_CAPACITY];
+    private int activeCount;
+
+    private long[] pairs = new long[INITIAL_CAPACITY];
+    private int pairCount;
+
+    @Override
+    public void begin() {
+        for (int i = 0; i < endpointCount; i++) {
+            seen[endpoints[i] >>> 1] = false;
+        }
+        pairCount = 0;
+    }
+
+    @Override
+    public void add(int id, float boxMinX, float boxMinY, float boxMaxX, float boxMaxY) {
+        if (id < 0) {
+            throw new IllegalArgumentException("id must be >= 0");
+        }
+        ensureIdCapacity(id + 1);
+        minX[id] = boxMinX;
+        minY[id] = boxMinY;
+        maxX[id] = boxMaxX;
+        maxY[id] = boxMaxY;
+        seen[id] = true;
+        if (!tracked[id]) {
+            tracked[id] = true;
+            ensureEndpointCapacity(endpointCount + 2);
+            endpoints[endpointCount++] = id << 1;
+            endpoints[endpointCount++] = (id << 1) | 1;
+        }
+    }
+
+    @Override
+    public void computePairs() {
+        pairCount = 0;
+        refreshEndpoints();
+        sortEndpoints();
+
+        activeCount = 0;
+        for (int i = 0; i < endpointCount; i++) {
+            int id = endpoints[i] >>> 1;
+            if ((endpoints[i] & 1) == 1) {
+                int slot = activeSlot[id];
+                int last = active[--activeCount];
+                active[slot] = last;
+                activeSlot[last] = slot;
+                continue;
+            }
+            for (int a = 0; a < activeCount; a++) {
+                int other = active[a];
+                if (minY[id] <= maxY[other] && minY[other] <= maxY[id]) {
+                    emit(other, id);
+                }
+            }
+            active[activeCount] = id;
+            activeSlot[id] = activeCount;
+            activeCount++;
+        }
+    }
+
+    @Override
+    public int getPairCount() {
+        return pairCount;
+    }
+
+    @Override
+    public int getPairA(int index) {
+        return (int) (pairs[index] >>> 32);
+    }
+
+    @Override
+    public int getPairB(int index) {
+        return (int) pairs[index];
+    }
+
+    /**
+     * Drops endpoints of ids not reported this frame and copies the current
+     * x bounds into the rest, keeping their relative order.
+     */
+    private void refreshEndpoints() {
+        int kept = 0;
+        for (int i = 0; i < endpointCount; i++) {
+            int endpoint = endpoints[i];
+            int id = endpoint >>> 1;
+            if (!seen[id]) {
+                tracked[id] = false;
+                continue;
+            }
+            endpoints[kept] = endpoint;
+            endpointValues[kept] = (endpoint & 1) == 1 ? maxX[id] : minX[id];
+            kept++;
+        }
+        endpointCount = kept;
+    }
+
+    /**
+     * Insertion sort by value; at equal values a min endpoint sorts before a
+     * max endpoint so touching boxes are still reported.
+     */
+    private void sortEndpoints() {
+        for (int i = 1; i < endpointCount; i++) {
+            int endpoint = endpoints[i];
+            float value = endpointValues[i];
+            int j = i - 1;
+            while (j >= 0 && greater(endpointValues[j], endpoints[j], value, endpoint)) {
+                endpoints[j + 1] = endpoints[j];
+                endpointValues[j + 1] = endpointValues[j];
+                j--;
+            }
+            endpoints[j + 1] = endpoint;
+            endpointValues[j + 1] = value;
+        }
+    }
+
+    private static boolean greater(float valueA, int endpointA, float valueB, int endpointB) {
+        if (valueA != valueB) {
+            return valueA > valueB;
+        }
+        return (endpointA & 1) > (endpointB & 1);
+    }
+
+    private void emit(int idA, int idB) {
+        if (pairCount == pairs.length) {
+            pairs = Arrays.copyOf(pairs, pairCount * 2);
+        }
+        int a = Math.min(idA, idB);
+        int b = Math.max(idA, idB);
+        pairs[pairCount++] = ((long) a << 32) | (b & 0xFFFFFFFFL);
+    }
+
+    private void ensureIdCapacity(int required) {
+        if (required <= minX.length) {
+            return;
+        }
+        int capacity = Math.max(required, minX.length * 2);
+        minX = Arrays.copyOf(minX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+        tracked = Arrays.copyOf(tracked, capacity);
+        seen = Arrays.copyOf(seen, capacity);
+        activeSlot = Arrays.copyOf(activeSlot, capacity);
+        active = Arrays.copyOf(active, capacity);
+    }
+
+    private void ensureEndpointCapacity(int required) {
+        if (required <= endpoints.length) {
+            return;
+        }
+        int capacity = Math.max(required, endpoints.length * 2);
+        endpoints = Arrays.copyOf(endpoints, capacity);
+        endpointValues = Arrays.copyOf(endpointValues, capacity);
+    }
+}
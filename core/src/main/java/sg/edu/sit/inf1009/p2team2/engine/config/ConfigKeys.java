@@ -18,6 +18,10 @@ public final class ConfigKeys {
         stringKey("display.title", "P2Team2AbstractEngine", v -> v != null && !v.isBlank(), "Window title");
     public static final ConfigKey<Float> AUDIO_VOLUME =
         floatKey("audio.volume", 0.7f, between01(), "Master volume [0, 1]");
+    public static final ConfigKey<Integer> ENGINE_TICK_RATE =
+        intKey("engine.tickRate", 60, v -> v >= 0 && v <= 1000, "Fixed simulation ticks per second [0, 1000], 0 = variable");
+    public static final ConfigKey<Integer> ENGINE_MAX_STEPS =
+        intKey("engine.maxStepsPerFrame", 5, v -> v >= 1 && v <= 60, "Fixed ticks run per frame before time is dropped [1, 60]");
 
     private static final Map<String, ConfigKey<?>> BY_NAME = buildIndex();
 
@@ -51,6 +55,8 @@ public final class ConfigKeys {
         map.put(DISPLAY_FULLSCREEN.name(), DISPLAY_FULLSCREEN);
         map.put(DISPLAY_TITLE.name(), DISPLAY_TITLE);
         map.put(AUDIO_VOLUME.name(), AUDIO_VOLUME);
+        map.put(ENGINE_TICK_RATE.name(), ENGINE_TICK_RATE);
+        map.put(ENGINE_MAX_STEPS.name(), ENGINE_MAX_STEPS);
         return map;
     }
 
@@ -90,6 +90,8 @@ public class ConfigLoader implements IConfigLoader {
         defaults.put(ConfigKeys.DISPLAY_FULLSCREEN.name(), ConfigKeys.DISPLAY_FULLSCREEN.toVar(ConfigKeys.DISPLAY_FULLSCREEN.defaultValue()));
         defaults.put(ConfigKeys.DISPLAY_TITLE.name(), ConfigKeys.DISPLAY_TITLE.toVar(ConfigKeys.DISPLAY_TITLE.defaultValue()));
         defaults.put(ConfigKeys.AUDIO_VOLUME.name(), ConfigKeys.AUDIO_VOLUME.toVar(ConfigKeys.AUDIO_VOLUME.defaultValue()));
+        defaults.put(ConfigKeys.ENGINE_TICK_RATE.name(), ConfigKeys.ENGINE_TICK_RATE.toVar(ConfigKeys.ENGINE_TICK_RATE.defaultValue()));
+        defaults.put(ConfigKeys.ENGINE_MAX_STEPS.name(), ConfigKeys.ENGINE_MAX_STEPS.toVar(ConfigKeys.ENGINE_MAX_STEPS.defaultValue()));
         return defaults;
     }
 
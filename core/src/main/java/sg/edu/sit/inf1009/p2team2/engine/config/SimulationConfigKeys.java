@@ -14,6 +14,10 @@ public final class SimulationConfigKeys {
         floatKey("simulation.playerSpeed", 240f, v -> v >= 0f, "Player speed must be >= 0");
     public static final ConfigKey<Boolean> SIMULATION_COLLISIONS_ENABLED =
         boolKey("simulation.collisionsEnabled", true, v -> true, "Simulation collision toggle");
+    public static final ConfigKey<Integer> SIMULATION_SOLVER_ITERATIONS =
+        intKey("simulation.solverIterations", 8, v -> v >= 0 && v <= 64, "Collision solver iterations [0, 64], 0 = single pass");
+    public static final ConfigKey<Integer> SIMULATION_PARALLEL_MOVEMENT_THRESHOLD =
+        intKey("simulation.parallelMovementThreshold", 4096, v -> v >= 1, "Moving bodies needed before movement runs in parallel, >= 1");
     public static final ConfigKey<Integer> SIMULATION_PRESET_INDEX =
         intKey("simulation.presetIndex", 0, v -> v >= 0, "Simulation preset index must be >= 0");
     public static final ConfigKey<Boolean> SIMULATION_MUSIC_ENABLED =
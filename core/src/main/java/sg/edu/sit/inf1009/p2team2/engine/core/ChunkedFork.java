@@ -0,0 +1,54 @@
+package sg.edu.sit.inf1009.p2team2.engine.core;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs a prepared set of chunk tasks on a {@link ForkJoinPool} and waits
+ * for all of them.
+ *
+ * Every chunk but the first is forked; the first runs on the invoking
+ * worker, then the rest are joined. Chunks and this task are reinitialized
+ * on each {@link #run}, so both can be kept and reused between frames.
+ * Not safe to run from more than one thread at once.
+ */
+@SuppressWarnings("serial")
+public final class ChunkedFork extends RecursiveAction {
+    private ForkJoinTask<?>[] chunks;
+    private int chunkCount;
+
+    /**
+     * Runs {@code chunks[0, count)} on {@code pool} and returns once all are done.
+     */
+    public void run(ForkJoinPool pool, ForkJoinTask<?>[] chunks, int count) {
+        Objects.requireNonNull(pool, "pool cannot be null");
+        Objects.requireNonNull(chunks, "chunks cannot be null");
+        if (count < 1 || count > chunks.length) {
+            throw new IllegalArgumentException("count must be in [1, " + chunks.length + "]");
+        }
+        for (int i = 0; i < count; i++) {
+            chunks[i].reinitialize();
+        }
+        this.chunks = chunks;
+        this.chunkCount = count;
+        reinitialize();
+        try {
+            pool.invoke(this);
+        } finally {
+            this.chunks = null;
+        }
+    }
+
+    @Override
+    protected void compute() {
+        for (int i = 1; i < chunkCount; i++) {
+            chunks[i].fork();
+        }
+        chunks[0].invoke();
+        for (int i = 1; i < chunkCount; i++) {
+            chunks[i].join();
+        }
+    }
+}
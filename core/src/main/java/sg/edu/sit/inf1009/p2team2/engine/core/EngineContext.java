@@ -36,6 +36,7 @@ public class EngineContext {
     private final DisplayConfigListener displayConfigListener;
     private final AudioConfigListener audioConfigListener;
     private float deltaTime;
+    private final FixedTimestep timestep;
     
     /**
      * Constructor
@@ -81,6 +82,11 @@ public class EngineContext {
         // 4. Scene manager (depends on context)
         this.sceneManager = new SceneManager(this);
         
+        // 5. Simulation stepping (fixed ticks unless engine.tickRate is 0)
+        this.timestep = new FixedTimestep(
+            configManager.get(ConfigKeys.ENGINE_TICK_RATE),
+            configManager.get(ConfigKeys.ENGINE_MAX_STEPS));
+
         // Initialize state
         this.running = false;
         this.deltaTime = 0f;
@@ -128,11 +134,29 @@ public class EngineContext {
      * Update the engine
      * Call this every frame
      * 
+     * With a fixed tick rate, input and scenes are updated zero or more
+     * times per frame at {@link #getFixedDeltaTime()}; renderers can blend
+     * between the last two ticks with {@link #getInterpolationAlpha()}.
+     * 
      * @param dt Delta time in seconds
      */
     public void update(float dt) {
         this.deltaTime = dt;
 
+        int steps = timestep.advance(dt);
+        float stepDt = timestep.isFixed() ? timestep.getStep() : dt;
+        for (int i = 0; i < steps; i++) {
+            tick(stepDt);
+        }
+
+        try {
+            outputManager.update(dt);
+        } catch (Exception e) {
+            System.err.println("[EngineContext] OutputManager update failed: " + e.getMessage());
+        }
+    }
+    
+    private void tick(float dt) {
         try {
             inputManager.update(dt);
         } catch (Exception e) {
@@ -144,14 +168,8 @@ public class EngineContext {
         } catch (Exception e) {
             System.err.println("[EngineContext] SceneManager update failed: " + e.getMessage());
         }
-
-        try {
-            outputManager.update(dt);
-        } catch (Exception e) {
-            System.err.println("[EngineContext] OutputManager update failed: " + e.getMessage());
-        }
     }
-    
+
     /**
      * Render the engine
      * Call this every frame after update
@@ -218,6 +236,46 @@ public class EngineContext {
         return deltaTime;
     }
     
+    /**
+     * Get the fixed simulation tick length
+     * 
+     * @return Tick length in seconds, or 0 when stepping per frame
+     */
+    public float getFixedDeltaTime() {
+        return timestep.getStep();
+    }
+
+    /**
+     * Set the simulation tick rate
+     * 
+     * @param ticksPerSecond Fixed ticks per second, or 0 to step once per frame
+     */
+    public void setTickRate(int ticksPerSecond) {
+        timestep.setTickRate(ticksPerSecond);
+    }
+
+    public int getTickRate() {
+        return timestep.getTickRate();
+    }
+
+    /**
+     * Set how many ticks may run in one frame before time is dropped
+     * 
+     * @param maxSteps Catch-up limit, at least 1
+     */
+    public void setMaxStepsPerFrame(int maxSteps) {
+        timestep.setMaxSteps(maxSteps);
+    }
+
+    /**
+     * Get how far the current frame is between the last tick and the next
+     * 
+     * @return Blend factor in [0, 1]; 1 when stepping per frame
+     */
+    public float getInterpolationAlpha() {
+        return timestep.getAlpha();
+    }
+
     /**
      * Clean up all engine resources
      */
@@ -0,0 +1,100 @@
+package sg.edu.sit.inf1009.p2team2.engine.core;
+
+/**
+ * Accumulator that turns variable frame times into whole fixed-length ticks.
+ *
+ * Each {@link #advance(float)} adds the frame time and returns how many
+ * ticks of {@link #getStep()} seconds to run. At most
+ * {@link #getMaxSteps()} ticks run per frame; time beyond that is dropped
+ * so a slow frame cannot snowball. The leftover fraction of a tick is
+ * exposed as {@link #getAlpha()} for interpolating rendered positions
+ * between the last two ticks.
+ *
+ * A tick rate of 0 disables fixed stepping: every frame is one tick of the
+ * frame's own length and alpha stays at 1.
+ */
+public final class FixedTimestep {
+    private int tickRate;
+    private int maxSteps;
+    private float step;
+    private float accumulator;
+    private float alpha = 1f;
+
+    public FixedTimestep(int tickRate, int maxSteps) {
+        setTickRate(tickRate);
+        setMaxSteps(maxSteps);
+    }
+
+    /**
+     * Ticks per second, or 0 for variable stepping. Clears any accumulated time.
+     */
+    public void setTickRate(int tickRate) {
+        if (tickRate < 0) {
+            throw new IllegalArgumentException("tickRate must be >= 0");
+        }
+        this.tickRate = tickRate;
+        this.step = tickRate == 0 ? 0f : 1f / tickRate;
+        reset();
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public boolean isFixed() {
+        return tickRate > 0;
+    }
+
+    public void setMaxSteps(int maxSteps) {
+        if (maxSteps < 1) {
+            throw new IllegalArgumentException("maxSteps must be >= 1");
+        }
+        this.maxSteps = maxSteps;
+    }
+
+    public int getMaxSteps() {
+        return maxSteps;
+    }
+
+    /**
+     * Tick length in seconds; 0 in variable mode.
+     */
+    public float getStep() {
+        return step;
+    }
+
+    /**
+     * Fraction of a tick accumulated but not yet simulated, in [0, 1).
+     * Always 1 in variable mode.
+     */
+    public float getAlpha() {
+        return alpha;
+    }
+
+    /**
+     * Adds a frame's time and returns the number of ticks to run now.
+     */
+    public int advance(float dt) {
+        if (!isFixed()) {
+            return dt > 0f ? 1 : 0;
+        }
+        if (dt > 0f) {
+            accumulator += dt;
+        }
+        int steps = (int) (accumulator / step);
+        if (steps > maxSteps) {
+            steps = maxSteps;
+            accumulator = step * maxSteps;
+        }
+        accumulator -= steps * step;
+        // Float drift can leave a hair under zero or a whole step.
+        accumulator = Math.max(0f, Math.min(accumulator, step));
+        alpha = Math.min(accumulator / step, 1f);
+        return steps;
+    }
+
+    public void reset() {
+        accumulator = 0f;
+        alpha = isFixed() ? 0f : 1f;
+    }
+}
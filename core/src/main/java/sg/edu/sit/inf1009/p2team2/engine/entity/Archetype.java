@@ -0,0 +1,161 @@
+package sg.edu.sit.inf1009.p2team2.engine.entity;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+
+/**
+ * Group of entities that share exactly the same component signature.
+ *
+ * Components are kept in one dense, typed column per component class so a
+ * system can walk e.g. every Transform+Velocity pair with plain array indexing
+ * instead of a map lookup per entity. Row {@code i} of every column belongs to
+ * {@code getEntities()[i]}.
+ */
+public final class Archetype {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final long signature;
+    private final ComponentType<?>[] types;
+    private final int[] columnById = new int[ComponentType.MAX_TYPES];
+    private final ComponentAdapter[][] columns;
+    private final Archetype[] addEdges = new Archetype[ComponentType.MAX_TYPES];
+    private final Archetype[] removeEdges = new Archetype[ComponentType.MAX_TYPES];
+    private Entity[] entities;
+    private int size;
+
+    Archetype(long signature, ComponentType<?>[] types) {
+        this.signature = signature;
+        this.types = types.clone();
+        this.columns = new ComponentAdapter[types.length][];
+        Arrays.fill(columnById, -1);
+        for (int i = 0; i < types.length; i++) {
+            columnById[types[i].getId()] = i;
+            columns[i] = (ComponentAdapter[]) Array.newInstance(types[i].getType(), INITIAL_CAPACITY);
+        }
+        this.entities = new Entity[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Bitmask of the {@link ComponentType}s stored in this archetype.
+     */
+    public long getSignature() {
+        return signature;
+    }
+
+    public boolean has(Class<? extends ComponentAdapter> componentType) {
+        return componentType != null && has(ComponentType.of(componentType));
+    }
+
+    public boolean has(ComponentType<?> componentType) {
+        return (signature & componentType.getBit()) != 0L;
+    }
+
+    /**
+     * Returns true when this archetype carries every type in {@code mask}.
+     */
+    public boolean hasAll(long mask) {
+        return (signature & mask) == mask;
+    }
+
+    /**
+     * Returns the dense column for a component type, or null when this
+     * archetype does not carry it. Only the first {@link #size()} slots are live.
+     */
+    public <T extends ComponentAdapter> T[] column(Class<T> componentType) {
+        return column(ComponentType.of(componentType));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends ComponentAdapter> T[] column(ComponentType<T> componentType) {
+        int index = columnById[componentType.getId()];
+        return index < 0 ? null : (T[]) columns[index];
+    }
+
+    /**
+     * Returns the entity rows backing this archetype. Only the first
+     * {@link #size()} slots are live.
+     */
+    public Entity[] getEntities() {
+        return entities;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    int add(Entity entity) {
+        ensureCapacity(size + 1);
+        int row = size++;
+        entities[row] = entity;
+        for (int i = 0; i < types.length; i++) {
+            columns[i][row] = entity.getComponent(types[i]);
+        }
+        entity.setArchetype(this, row);
+        return row;
+    }
+
+    void remove(int row) {
+        if (row < 0 || row >= size) {
+            return;
+        }
+        int last = --size;
+        if (row != last) {
+            entities[row] = entities[last];
+            entities[row].setArchetype(this, row);
+            for (ComponentAdapter[] column : columns) {
+                column[row] = column[last];
+            }
+        }
+        entities[last] = null;
+        for (ComponentAdapter[] column : columns) {
+            column[last] = null;
+        }
+    }
+
+    void set(int row, ComponentAdapter component) {
+        int index = columnById[ComponentType.of(component.getClass()).getId()];
+        if (index >= 0 && row >= 0 && row < size) {
+            columns[index][row] = component;
+        }
+    }
+
+    void clear() {
+        Arrays.fill(entities, 0, size, null);
+        for (ComponentAdapter[] column : columns) {
+            Arrays.fill(column, 0, size, null);
+        }
+        size = 0;
+    }
+
+    ComponentType<?>[] getTypes() {
+        return types;
+    }
+
+    Archetype getAddEdge(ComponentType<?> componentType) {
+        return addEdges[componentType.getId()];
+    }
+
+    void putAddEdge(ComponentType<?> componentType, Archetype target) {
+        addEdges[componentType.getId()] = target;
+    }
+
+    Archetype getRemoveEdge(ComponentType<?> componentType) {
+        return removeEdges[componentType.getId()];
+    }
+
+    void putRemoveEdge(ComponentType<?> componentType, Archetype target) {
+        removeEdges[componentType.getId()] = target;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= entities.length) {
+            return;
+        }
+        int capacity = Math.max(required, entities.length * 2);
+        entities = Arrays.copyOf(entities, capacity);
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = Arrays.copyOf(columns[i], capacity);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package sg.edu.sit.inf1009.p2team2.engine.entity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Archetype bookkeeping used by {@link EntityManager} in
+ * {@link EntityManager.StorageMode#ARCHETYPE} mode.
+ *
+ * Archetypes are linked by add/remove edges, so moving an entity after a
+ * component change is a cached hop rather than a signature rebuild.
+ */
+final class ArchetypeStorage {
+    private final Map<Long, Archetype> bySignature = new HashMap<>();
+    private final List<Archetype> archetypes = new ArrayList<>();
+    private final List<Archetype> archetypesView = Collections.unmodifiableList(archetypes);
+    private final Archetype root;
+
+    ArchetypeStorage() {
+        this.root = lookup(0L, new ComponentType<?>[0]);
+    }
+
+    List<Archetype> getArchetypes() {
+        return archetypesView;
+    }
+
+    void add(Entity entity) {
+        Archetype target = root;
+        for (ComponentAdapter component : entity.getComponentSlots()) {
+            if (component != null) {
+                target = withComponent(target, ComponentType.of(component.getClass()));
+            }
+        }
+        target.add(entity);
+    }
+
+    void remove(Entity entity) {
+        Archetype archetype = entity.getArchetype();
+        if (archetype != null) {
+            archetype.remove(entity.getArchetypeRow());
+        }
+        entity.setArchetype(null, -1);
+    }
+
+    void onComponentAdded(Entity entity, ComponentAdapter component) {
+        Archetype current = entity.getArchetype();
+        if (current == null) {
+            return;
+        }
+        ComponentType<?> type = ComponentType.of(component.getClass());
+        if (current.has(type)) {
+            current.set(entity.getArchetypeRow(), component);
+            return;
+        }
+        current.remove(entity.getArchetypeRow());
+        withComponent(current, type).add(entity);
+    }
+
+    void onComponentRemoved(Entity entity, Class<? extends ComponentAdapter> componentType) {
+        Archetype current = entity.getArchetype();
+        ComponentType<?> type = ComponentType.of(componentType);
+        if (current == null || !current.has(type)) {
+            return;
+        }
+        current.remove(entity.getArchetypeRow());
+        withoutComponent(current, type).add(entity);
+    }
+
+    void onComponentsCleared(Entity entity) {
+        Archetype current = entity.getArchetype();
+        if (current == null || current == root) {
+            return;
+        }
+        current.remove(entity.getArchetypeRow());
+        root.add(entity);
+    }
+
+    void clear() {
+        for (Archetype archetype : archetypes) {
+            for (int i = 0; i < archetype.size(); i++) {
+                archetype.getEntities()[i].setArchetype(null, -1);
+            }
+            archetype.clear();
+        }
+    }
+
+    private Archetype withComponent(Archetype from, ComponentType<?> componentType) {
+        if (from.has(componentType)) {
+            return from;
+        }
+        Archetype target = from.getAddEdge(componentType);
+        if (target == null) {
+            ComponentType<?>[] types = Arrays.copyOf(from.getTypes(), from.getTypes().length + 1);
+            types[types.length - 1] = componentType;
+            target = lookup(from.getSignature() | componentType.getBit(), types);
+            from.putAddEdge(componentType, target);
+            target.putRemoveEdge(componentType, from);
+        }
+        return target;
+    }
+
+    private Archetype withoutComponent(Archetype from, ComponentType<?> componentType) {
+        Archetype target = from.getRemoveEdge(componentType);
+        if (target == null) {
+            ComponentType<?>[] types = new ComponentType<?>[from.getTypes().length - 1];
+            int next = 0;
+            for (ComponentType<?> type : from.getTypes()) {
+                if (type != componentType) {
+                    types[next++] = type;
+                }
+            }
+            target = lookup(from.getSignature() & ~componentType.getBit(), types);
+            from.putRemoveEdge(componentType, target);
+            target.putAddEdge(componentType, from);
+        }
+        return target;
+    }
+
+    private Archetype lookup(long signature, ComponentType<?>[] types) {
+        Archetype archetype = bySignature.get(signature);
+        if (archetype == null) {
+            archetype = new Archetype(signature, types);
+            bySignature.put(signature, archetype);
+            archetypes.add(archetype);
+        }
+        return archetype;
+    }
+}
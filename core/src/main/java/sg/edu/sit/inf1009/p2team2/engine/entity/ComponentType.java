@@ -0,0 +1,98 @@
+package sg.edu.sit.inf1009.p2team2.engine.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Registry entry giving each {@link ComponentAdapter} class a small integer id.
+ *
+ * Ids index the per-entity component array and map to one bit of a
+ * {@code long} signature, so "has Transform + Velocity + Collider" is a single
+ * mask test. Ids are assigned on first use and stay stable for the lifetime of
+ * the process. At most {@link #MAX_TYPES} component classes are supported.
+ *
+ * Systems should resolve their types once, e.g.
+ * {@code static final ComponentType<TransformComponent> TRANSFORM = ComponentType.of(TransformComponent.class);}
+ */
+public final class ComponentType<T extends ComponentAdapter> {
+    public static final int MAX_TYPES = Long.SIZE;
+
+    private static final List<ComponentType<?>> REGISTERED = new ArrayList<>();
+    private static final ClassValue<ComponentType<?>> BY_CLASS = new ClassValue<>() {
+        @Override
+        protected ComponentType<?> computeValue(Class<?> type) {
+            return register(type);
+        }
+    };
+
+    private final Class<T> type;
+    private final int id;
+    private final long bit;
+
+    private ComponentType(Class<T> type, int id) {
+        this.type = type;
+        this.id = id;
+        this.bit = 1L << id;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T extends ComponentAdapter> ComponentType<T> of(Class<T> type) {
+        Objects.requireNonNull(type, "type cannot be null");
+        return (ComponentType<T>) BY_CLASS.get(type);
+    }
+
+    /**
+     * Builds the signature mask covering every given component class.
+     */
+    @SafeVarargs
+    public static long maskOf(Class<? extends ComponentAdapter>... types) {
+        long mask = 0L;
+        for (Class<? extends ComponentAdapter> type : types) {
+            mask |= of(type).bit;
+        }
+        return mask;
+    }
+
+    /**
+     * Number of component classes registered so far; ids are in [0, count).
+     */
+    public static synchronized int count() {
+        return REGISTERED.size();
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public long getBit() {
+        return bit;
+    }
+
+    @Override
+    public String toString() {
+        return "ComponentType[" + type.getSimpleName() + "#" + id + "]";
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static synchronized ComponentType<?> register(Class<?> type) {
+        for (ComponentType<?> existing : REGISTERED) {
+            if (existing.type == type) {
+                return existing;
+            }
+        }
+        if (!ComponentAdapter.class.isAssignableFrom(type)) {
+            throw new IllegalArgumentException(type.getName() + " is not a ComponentAdapter");
+        }
+        if (REGISTERED.size() >= MAX_TYPES) {
+            throw new IllegalStateException("Cannot register more than " + MAX_TYPES + " component types");
+        }
+        ComponentType<?> created = new ComponentType(type, REGISTERED.size());
+        REGISTERED.add(created);
+        return created;
+    }
+}
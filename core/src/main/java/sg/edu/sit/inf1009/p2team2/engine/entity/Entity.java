@@ -1,17 +1,30 @@
 package sg.edu.sit.inf1009.p2team2.engine.entity;
 
+import com.badlogic.gdx.utils.Pool;
+import java.util.AbstractCollection;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * Basic ECS entity.
  *
- * Stores components in a map keyed by the component's class type.
+ * Stores components in an array indexed by {@link ComponentType} id and keeps
+ * a bitmask signature of the types it carries. When the entity is registered
+ * with an {@link EntityManager}, component changes are reported back so the
+ * manager's storage stays in sync.
  */
 public class Entity {
-    private final int id;
-    private final Map<Class<? extends ComponentAdapter>, ComponentAdapter> components = new HashMap<>();
+    private int id;
+    private int generation;
+    private ComponentAdapter[] components = new ComponentAdapter[8];
+    private long signature;
+    private EntityManager manager;
+    private Archetype archetype;
+    private int archetypeRow = -1;
+    private Object poolKey;
+    private final Collection<ComponentAdapter> componentsView = new ComponentsView();
 
     public Entity(int id) {
         this.id = id;
@@ -21,40 +34,194 @@ public class Entity {
         return id;
     }
 
+    /**
+     * Generational handle (id plus the generation of its slot) assigned when
+     * the entity was last added to, or queued for, an {@link EntityManager}. Resolve it with
+     * {@link EntityManager#getEntityByHandle(long)}; a stale handle resolves to null.
+     */
+    public long getHandle() {
+        return EntityHandle.of(id, generation);
+    }
+
     public void add(ComponentAdapter component) {
         if (component == null) {
             throw new IllegalArgumentException("component cannot be null");
         }
-        components.put(component.getClass(), component);
+        ComponentType<?> type = ComponentType.of(component.getClass());
+        if (type.getId() >= components.length) {
+            components = Arrays.copyOf(components, Math.max(type.getId() + 1, components.length * 2));
+        }
+        components[type.getId()] = component;
+        signature |= type.getBit();
+        if (manager != null) {
+            manager.onComponentAdded(this, component);
+        }
     }
 
     public void remove(Class<? extends ComponentAdapter> componentType) {
         if (componentType == null) {
             return;
         }
-        components.remove(componentType);
+        ComponentType<?> type = ComponentType.of(componentType);
+        if ((signature & type.getBit()) == 0L) {
+            return;
+        }
+        components[type.getId()] = null;
+        signature &= ~type.getBit();
+        if (manager != null) {
+            manager.onComponentRemoved(this, componentType);
+        }
     }
 
-    @SuppressWarnings("unchecked")
     public <T extends ComponentAdapter> T get(Class<T> componentType) {
         if (componentType == null) {
             return null;
         }
-        return (T) components.get(componentType);
+        return getComponent(ComponentType.of(componentType));
+    }
+
+    /**
+     * Id-indexed lookup for systems that resolved their {@link ComponentType} up front.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends ComponentAdapter> T getComponent(ComponentType<T> componentType) {
+        int index = componentType.getId();
+        return index < components.length ? (T) components[index] : null;
     }
 
     public boolean has(Class<? extends ComponentAdapter> componentType) {
         if (componentType == null) {
             return false;
         }
-        return components.containsKey(componentType);
+        return hasComponent(ComponentType.of(componentType));
+    }
+
+    public boolean hasComponent(ComponentType<?> componentType) {
+        return (signature & componentType.getBit()) != 0L;
     }
 
+    /**
+     * Returns true when every component in {@code mask} (see
+     * {@link ComponentType#maskOf}) is attached to this entity.
+     */
+    public boolean hasAll(long mask) {
+        return (signature & mask) == mask;
+    }
+
+    public long getSignature() {
+        return signature;
+    }
+
+    /**
+     * Returns a read-only live view of the attached components. The same view
+     * instance is returned on every call.
+     */
     public Collection<ComponentAdapter> getAll() {
-        return components.values();
+        return componentsView;
+    }
+
+    /**
+     * Backing array indexed by {@link ComponentType} id, with nulls for absent
+     * types. Lets the manager walk components without an iterator.
+     */
+    ComponentAdapter[] getComponentSlots() {
+        return components;
     }
 
     public void clear() {
-        components.clear();
+        Arrays.fill(components, null);
+        signature = 0L;
+        if (manager != null) {
+            manager.onComponentsCleared(this);
+        }
+    }
+
+    /**
+     * Key of the pool this entity is recycled into on removal, or null when the
+     * entity is not pooled. See {@link EntityManager#obtainEntity(Object)}.
+     */
+    public Object getPoolKey() {
+        return poolKey;
+    }
+
+    void setPoolKey(Object poolKey) {
+        this.poolKey = poolKey;
+    }
+
+    /**
+     * Calls {@link Pool.Poolable#reset()} on every attached component that
+     * supports it. Components stay attached.
+     */
+    void resetComponents() {
+        for (ComponentAdapter component : components) {
+            if (component instanceof Pool.Poolable poolable) {
+                poolable.reset();
+            }
+        }
+    }
+
+    void setId(int id) {
+        this.id = id;
+    }
+
+    void setGeneration(int generation) {
+        this.generation = generation;
+    }
+
+    EntityManager getManager() {
+        return manager;
+    }
+
+    void setManager(EntityManager manager) {
+        this.manager = manager;
+    }
+
+    Archetype getArchetype() {
+        return archetype;
+    }
+
+    int getArchetypeRow() {
+        return archetypeRow;
+    }
+
+    void setArchetype(Archetype archetype, int row) {
+        this.archetype = archetype;
+        this.archetypeRow = row;
+    }
+
+    private final class ComponentsView extends AbstractCollection<ComponentAdapter> {
+        @Override
+        public int size() {
+            return Long.bitCount(signature);
+        }
+
+        @Override
+        public Iterator<ComponentAdapter> iterator() {
+            return new Iterator<>() {
+                private int next = advance(0);
+
+                private int advance(int from) {
+                    while (from < components.length && components[from] == null) {
+                        from++;
+                    }
+                    return from;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next < components.length;
+                }
+
+                @Override
+                public ComponentAdapter next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    ComponentAdapter component = components[next];
+                    next = advance(next + 1);
+                    return component;
+                }
+            };
+        }
     }
 }
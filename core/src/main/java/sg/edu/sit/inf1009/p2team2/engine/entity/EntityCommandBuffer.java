@@ -0,0 +1,169 @@
+package sg.edu.sit.inf1009.p2team2.engine.entity;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Records structural changes to an {@link EntityManager} so they can be
+ * applied later, at a single sync point, instead of while systems are
+ * iterating entities or queries.
+ *
+ * Every command keeps the {@linkplain Entity#getHandle() handle} its target
+ * had when it was recorded and is skipped on playback if that handle no
+ * longer resolves to the target, so commands against an entity removed in
+ * the meantime never reach a recycled id.
+ *
+ * The manager owns a buffer (see {@link EntityManager#getCommandBuffer()})
+ * that it plays back in {@link EntityManager#update(float)}. Commands are
+ * applied in the order they were recorded. A buffer is not thread-safe; code
+ * running on several threads should record into one buffer per thread and
+ * play them back from the owning thread.
+ */
+public final class EntityCommandBuffer {
+    private static final byte ADD_ENTITY = 0;
+    private static final byte DESTROY = 1;
+    private static final byte ADD_COMPONENT = 2;
+    private static final byte REMOVE_COMPONENT = 3;
+    private static final byte CLEAR = 4;
+    private static final byte CREATE_ENTITY = 5;
+
+    private final EntityManager manager;
+    private byte[] ops = new byte[32];
+    private Entity[] targets = new Entity[32];
+    private long[] handles = new long[32];
+    private Object[] payloads = new Object[32];
+    private int size;
+
+    public EntityCommandBuffer(EntityManager manager) {
+        this.manager = Objects.requireNonNull(manager, "manager cannot be null");
+    }
+
+    /**
+     * Returns a new entity with a reserved id that is registered on playback.
+     * Components added to it before then are not visible to queries.
+     */
+    public Entity create() {
+        int id = manager.reserveId();
+        Entity entity = new Entity(id);
+        // Stamp the generation it will be registered with, so its handle is
+        // valid for commands recorded against it before playback.
+        entity.setGeneration(manager.generationOf(id));
+        record(CREATE_ENTITY, entity, null);
+        return entity;
+    }
+
+    /**
+     * Registers an existing entity on playback.
+     */
+    public void add(Entity entity) {
+        Objects.requireNonNull(entity, "entity cannot be null");
+        if (entity.getManager() == null) {
+            entity.setGeneration(manager.generationOf(entity.getId()));
+        }
+        record(ADD_ENTITY, entity, null);
+    }
+
+    /**
+     * Removes the entity on playback, if its {@linkplain Entity#getHandle()
+     * handle} as of now is still alive. An entity that is removed and then
+     * recycled with the same id before playback is left alone.
+     */
+    public void destroy(Entity entity) {
+        record(DESTROY, Objects.requireNonNull(entity, "entity cannot be null"), null);
+    }
+
+    public void addComponent(Entity entity, ComponentAdapter component) {
+        Objects.requireNonNull(entity, "entity cannot be null");
+        if (component == null) {
+            throw new IllegalArgumentException("component cannot be null");
+        }
+        record(ADD_COMPONENT, entity, component);
+    }
+
+    public void removeComponent(Entity entity, Class<? extends ComponentAdapter> componentType) {
+        Objects.requireNonNull(entity, "entity cannot be null");
+        Objects.requireNonNull(componentType, "componentType cannot be null");
+        record(REMOVE_COMPONENT, entity, componentType);
+    }
+
+    /**
+     * Removes every entity on playback. Commands recorded after this one still apply.
+     */
+    public void clear() {
+        record(CLEAR, null, null);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Applies and then forgets every recorded command. Commands recorded
+     * during playback are applied in the same pass.
+     */
+    @SuppressWarnings("unchecked")
+    public void playback() {
+        for (int i = 0; i < size; i++) {
+            Entity target = targets[i];
+            switch (ops[i]) {
+                case ADD_ENTITY, CREATE_ENTITY -> manager.addEntity(target);
+                case DESTROY -> {
+                    if (manager.getEntityByHandle(handles[i]) == target) {
+                        manager.removeEntity(target.getId());
+                    }
+                }
+                case ADD_COMPONENT -> {
+                    if (manager.getEntityByHandle(handles[i]) == target) {
+                        target.add((ComponentAdapter) payloads[i]);
+                    }
+                }
+                case REMOVE_COMPONENT -> {
+                    if (manager.getEntityByHandle(handles[i]) == target) {
+                        target.remove((Class<? extends ComponentAdapter>) payloads[i]);
+                    }
+                }
+                case CLEAR -> manager.removeAll();
+                default -> throw new IllegalStateException("Unknown command " + ops[i]);
+            }
+        }
+        reset();
+    }
+
+    /**
+     * Drops every recorded command without applying it. Ids reserved by
+     * {@link #create()} are handed back to the manager.
+     */
+    public void discard() {
+        for (int i = 0; i < size; i++) {
+            if (ops[i] == CREATE_ENTITY) {
+                manager.releaseReservedId(targets[i].getId());
+            }
+        }
+        reset();
+    }
+
+    private void reset() {
+        Arrays.fill(targets, 0, size, null);
+        Arrays.fill(payloads, 0, size, null);
+        size = 0;
+    }
+
+    private void record(byte op, Entity target, Object payload) {
+        if (size == ops.length) {
+            int capacity = size * 2;
+            ops = Arrays.copyOf(ops, capacity);
+            targets = Arrays.copyOf(targets, capacity);
+            handles = Arrays.copyOf(handles, capacity);
+            payloads = Arrays.copyOf(payloads, capacity);
+        }
+        ops[size] = op;
+        targets[size] = target;
+        handles[size] = target == null ? EntityHandle.NONE : target.getHandle();
+        payloads[size] = payload;
+        size++;
+    }
+}
@@ -0,0 +1,27 @@
+package sg.edu.sit.inf1009.p2team2.engine.entity;
+
+/**
+ * Packing helpers for generational entity handles.
+ *
+ * A handle stores the entity id (its slot index) in the low 32 bits and the
+ * slot generation in the high 32 bits. See {@link Entity#getHandle()}.
+ */
+public final class EntityHandle {
+    /** Handle value that never resolves to an entity. */
+    public static final long NONE = -1L;
+
+    private EntityHandle() {
+    }
+
+    public static long of(int index, int generation) {
+        return ((long) generation << 32) | (index & 0xFFFFFFFFL);
+    }
+
+    public static int index(long handle) {
+        return (int) handle;
+    }
+
+    public static int generation(long handle) {
+        return (int) (handle >>> 32);
+    }
+}
@@ -1,8 +1,12 @@
 package sg.edu.sit.inf1009.p2team2.engine.entity;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import sg.edu.sit.inf1009.p2team2.engine.entity.ComponentAdapter;
@@ -13,46 +17,227 @@ import sg.edu.sit.inf1009.p2team2.engine.entity.Entity;
  *
  * Note: This is intentionally lightweight; teams can extend it with indexing,
  * queries, pooling, etc.
+ *
+ * Entities live in a sparse set: a dense array for iteration plus an
+ * id-to-slot table, so lookup, add and remove are constant time. Removal
+ * swaps the last entity into the freed slot, so iteration order is not
+ * insertion order.
+ *
+ * Ids are slot indices. Ids of removed entities are recycled, and every
+ * index carries a generation counter that is bumped on removal, so a
+ * {@linkplain Entity#getHandle() handle} taken from an earlier occupant no
+ * longer resolves once its entity is gone. Because ids stay dense, per-entity
+ * side tables can be plain arrays sized by {@link #getIdCapacity()}.
+ *
+ * In {@link StorageMode#ARCHETYPE} mode the manager additionally groups
+ * entities by component signature (see {@link Archetype}) so systems can
+ * iterate dense per-type component columns.
+ *
+ * Entities created through {@link #obtainEntity(Object)} are pooled: removing
+ * them (or clearing the manager) resets their components and parks them on a
+ * per-key free list for the next {@code obtainEntity} call with the same key.
  */
 public class EntityManager {
-    private final List<Entity> entities = new ArrayList<>();
+    /**
+     * Storage layouts supported by the manager.
+     */
+    public enum StorageMode {
+        /** Single entity list; components are only reachable through {@link Entity#get}. */
+        FLAT,
+        /** Entity list plus archetype tables with dense per-type component columns. */
+        ARCHETYPE
+    }
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private Entity[] dense = new Entity[INITIAL_CAPACITY];
+    private int[] slotById = newSlotTable(INITIAL_CAPACITY);
+    private int[] generationById = new int[INITIAL_CAPACITY];
+    private boolean[] freeById = new boolean[INITIAL_CAPACITY];
+    private int[] freeIds = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    private int size;
+    private final EntityListView entitiesView = new EntityListView();
+    private final Map<Long, EntityQuery> queries = new HashMap<>();
+    private final List<EntityQuery> queryList = new ArrayList<>();
+    private final StorageMode storageMode;
+    private final ArchetypeStorage archetypes;
+    private final EntityPool pool = new EntityPool();
+    private final EntityCommandBuffer commands = new EntityCommandBuffer(this);
     private int nextId = 1;
 
     public EntityManager() {
+        this(StorageMode.FLAT);
+    }
+
+    public EntityManager(StorageMode storageMode) {
+        this.storageMode = storageMode == null ? StorageMode.FLAT : storageMode;
+        this.archetypes = this.storageMode == StorageMode.ARCHETYPE ? new ArchetypeStorage() : null;
     }
 
     public Entity createEntity() {
-        Entity entity = new Entity(nextId++);
+        Entity entity = new Entity(reserveId());
         addEntity(entity);
         return entity;
     }
 
+    /**
+     * Returns a registered entity from the pool for {@code poolKey}, or a new
+     * empty one when the pool is empty. A recycled entity is given a fresh id
+     * but keeps its (reset) components, so callers should check what is
+     * attached and re-initialise in place rather than adding fresh components.
+     */
+    public Entity obtainEntity(Object poolKey) {
+        Objects.requireNonNull(poolKey, "poolKey cannot be null");
+        Entity entity = pool.obtain(poolKey);
+        if (entity == null) {
+            entity = new Entity(reserveId());
+            entity.setPoolKey(poolKey);
+        } else {
+            entity.setId(reserveId());
+        }
+        addEntity(entity);
+        return entity;
+    }
+
+    /**
+     * Number of removed entities waiting in the pool for {@code poolKey}.
+     */
+    public int getPooledCount(Object poolKey) {
+        return pool.freeCount(poolKey);
+    }
+
     public void addEntity(Entity entity) {
-        entities.add(Objects.requireNonNull(entity, "entity cannot be null"));
+        Objects.requireNonNull(entity, "entity cannot be null");
+        int id = entity.getId();
+        if (id < 0) {
+            throw new IllegalArgumentException("entity id must be >= 0");
+        }
+        EntityManager owner = entity.getManager();
+        if (owner != null && owner != this) {
+            throw new IllegalArgumentException("entity " + id + " already belongs to another EntityManager");
+        }
+        Entity existing = getEntity(id);
+        if (existing == entity) {
+            return;
+        }
+        if (existing != null) {
+            throw new IllegalArgumentException("entity id " + id + " is already registered");
+        }
+
+        ensureSlotTable(id);
+        ensureDenseCapacity(size + 1);
+        dense[size] = entity;
+        slotById[id] = size;
+        size++;
+        freeById[id] = false;
+        entity.setGeneration(generationById[id]);
+        nextId = Math.max(nextId, id + 1);
+        entitiesView.touch();
+        attach(entity);
+        refreshQueries(entity);
     }
 
     public void removeEntity(int id) {
-        entities.removeIf(e -> e.getId() == id);
+        if (id < 0 || id >= slotById.length) {
+            return;
+        }
+        int slot = slotById[id];
+        if (slot < 0) {
+            return;
+        }
+        Entity removed = dense[slot];
+        int last = --size;
+        if (slot != last) {
+            Entity moved = dense[last];
+            dense[slot] = moved;
+            slotById[moved.getId()] = slot;
+        }
+        dense[last] = null;
+        slotById[id] = -1;
+        releaseId(id);
+        entitiesView.touch();
+        detach(removed);
+        for (int i = 0; i < queryList.size(); i++) {
+            queryList.get(i).untrack(removed);
+        }
+        if (removed.getPoolKey() != null) {
+            pool.free(removed);
+        }
+    }
+
+    /**
+     * Resolves a handle from {@link Entity#getHandle()}. Returns null when the
+     * entity it referred to has been removed, even if its id has been reused.
+     */
+    public Entity getEntityByHandle(long handle) {
+        int id = EntityHandle.index(handle);
+        Entity entity = getEntity(id);
+        return entity != null && generationById[id] == EntityHandle.generation(handle) ? entity : null;
+    }
+
+    public boolean isAlive(long handle) {
+        return getEntityByHandle(handle) != null;
+    }
+
+    /**
+     * Exclusive upper bound of every id handed out so far; per-entity side
+     * tables indexed by id need at least this many slots.
+     */
+    public int getIdCapacity() {
+        return nextId;
     }
 
     public Entity getEntity(int id) {
-        for (Entity entity : entities) {
-            if (entity.getId() == id) {
-                return entity;
-            }
+        if (id < 0 || id >= slotById.length) {
+            return null;
         }
-        return null;
+        int slot = slotById[id];
+        return slot < 0 ? null : dense[slot];
     }
 
+    /**
+     * Returns a read-only live view of the managed entities. The same view
+     * instance is returned on every call, so callers may keep it.
+     */
     public List<Entity> getAllEntities() {
-        return Collections.unmodifiableList(entities);
+        return entitiesView;
+    }
+
+    /**
+     * Returns the cached query for entities that have all of the given
+     * component types. The query is maintained incrementally, so callers
+     * should keep the returned instance rather than calling this per frame.
+     */
+    @SafeVarargs
+    public final EntityQuery query(Class<? extends ComponentAdapter>... componentTypes) {
+        Objects.requireNonNull(componentTypes, "componentTypes cannot be null");
+        long signature = 0L;
+        for (Class<? extends ComponentAdapter> type : componentTypes) {
+            signature |= ComponentType.of(Objects.requireNonNull(type, "componentType cannot be null")).getBit();
+        }
+        EntityQuery query = queries.get(signature);
+        if (query == null) {
+            query = new EntityQuery(signature);
+            for (int i = 0; i < size; i++) {
+                query.refresh(dense[i]);
+            }
+            queries.put(query.getSignature(), query);
+            queryList.add(query);
+        }
+        return query;
     }
 
+    /**
+     * Name-based lookup kept for the original UML API. It scans every entity
+     * and allocates a new list; systems should use {@link #query} instead.
+     */
     public List<Entity> getEntitiesWithComponent(String componentType) {
         Objects.requireNonNull(componentType, "componentType cannot be null");
         List<Entity> matches = new ArrayList<>();
-        for (Entity entity : entities) {
-            for (ComponentAdapter component : entity.getAll()) {
+        for (int i = 0; i < size; i++) {
+            Entity entity = dense[i];
+            for (ComponentAdapter component : entity.getComponentSlots()) {
                 if (component != null
                     && component.getClass().getSimpleName().equals(componentType)) {
                     matches.add(entity);
@@ -63,15 +248,200 @@ public class EntityManager {
         return matches;
     }
 
+    public StorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    /**
+     * Returns every archetype created so far, including empty ones.
+     * Always empty in {@link StorageMode#FLAT} mode.
+     */
+    public List<Archetype> getArchetypes() {
+        return archetypes == null ? Collections.emptyList() : archetypes.getArchetypes();
+    }
+
+    /**
+     * Buffer for structural changes recorded while entities are being
+     * iterated. It is played back by {@link #update(float)}.
+     */
+    public EntityCommandBuffer getCommandBuffer() {
+        return commands;
+    }
+
+    /**
+     * Sync point: applies every command recorded in {@link #getCommandBuffer()}.
+     */
     public void update(float dt) {
-        // Intentionally lightweight for skeleton phase.
+        commands.playback();
     }
 
+    /**
+     * Removes every entity and discards the commands still pending in
+     * {@link #getCommandBuffer()}, since they were recorded against the
+     * entities being removed.
+     */
     public void clear() {
-        entities.clear();
+        commands.discard();
+        removeAll();
+    }
+
+    /**
+     * Removes every entity, leaving the command buffer alone. Used by the
+     * buffer's own clear command during playback.
+     */
+    void removeAll() {
+        for (int i = 0; i < size; i++) {
+            Entity entity = dense[i];
+            entity.setManager(null);
+            slotById[entity.getId()] = -1;
+            releaseId(entity.getId());
+            dense[i] = null;
+            if (entity.getPoolKey() != null) {
+                pool.free(entity);
+            }
+        }
+        size = 0;
+        if (archetypes != null) {
+            archetypes.clear();
+        }
+        for (int i = 0; i < queryList.size(); i++) {
+            queryList.get(i).clearMatches();
+        }
+        entitiesView.touch();
     }
 
     public int size() {
-        return entities.size();
+        return size;
+    }
+
+    /**
+     * Hands out the most recently released id, or a new one when none is free.
+     */
+    int reserveId() {
+        while (freeCount > 0) {
+            int id = freeIds[--freeCount];
+            if (freeById[id]) {
+                freeById[id] = false;
+                return id;
+            }
+        }
+        return nextId++;
+    }
+
+    /**
+     * Generation an entity added under {@code id} right now would be given.
+     */
+    int generationOf(int id) {
+        return id >= 0 && id < generationById.length ? generationById[id] : 0;
+    }
+
+    /**
+     * Returns an id from {@link #reserveId()} whose entity was never added.
+     */
+    void releaseReservedId(int id) {
+        if (id < 0 || id >= nextId || getEntity(id) != null) {
+            return;
+        }
+        ensureSlotTable(id);
+        releaseId(id);
+    }
+
+    private void releaseId(int id) {
+        generationById[id]++;
+        if (freeById[id]) {
+            return;
+        }
+        freeById[id] = true;
+        if (freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+        }
+        freeIds[freeCount++] = id;
+    }
+
+    void onComponentAdded(Entity entity, ComponentAdapter component) {
+        if (archetypes != null) {
+            archetypes.onComponentAdded(entity, component);
+        }
+        refreshQueries(entity);
+    }
+
+    void onComponentRemoved(Entity entity, Class<? extends ComponentAdapter> componentType) {
+        if (archetypes != null) {
+            archetypes.onComponentRemoved(entity, componentType);
+        }
+        refreshQueries(entity);
+    }
+
+    void onComponentsCleared(Entity entity) {
+        if (archetypes != null) {
+            archetypes.onComponentsCleared(entity);
+        }
+        refreshQueries(entity);
+    }
+
+    private void refreshQueries(Entity entity) {
+        for (int i = 0; i < queryList.size(); i++) {
+            queryList.get(i).refresh(entity);
+        }
+    }
+
+    private void attach(Entity entity) {
+        entity.setManager(this);
+        if (archetypes != null && entity.getArchetype() == null) {
+            archetypes.add(entity);
+        }
+    }
+
+    private void detach(Entity entity) {
+        if (archetypes != null) {
+            archetypes.remove(entity);
+        }
+        entity.setManager(null);
+    }
+
+    private void ensureSlotTable(int id) {
+        if (id < slotById.length) {
+            return;
+        }
+        int oldLength = slotById.length;
+        int capacity = Math.max(id + 1, oldLength * 2);
+        slotById = Arrays.copyOf(slotById, capacity);
+        Arrays.fill(slotById, oldLength, capacity, -1);
+        generationById = Arrays.copyOf(generationById, capacity);
+        freeById = Arrays.copyOf(freeById, capacity);
+    }
+
+    private void ensureDenseCapacity(int required) {
+        if (required > dense.length) {
+            dense = Arrays.copyOf(dense, Math.max(required, dense.length * 2));
+        }
+    }
+
+    private static int[] newSlotTable(int capacity) {
+        int[] table = new int[capacity];
+        Arrays.fill(table, -1);
+        return table;
+    }
+
+    /**
+     * Read-only list view over the dense entity array.
+     */
+    private final class EntityListView extends AbstractList<Entity> {
+        @Override
+        public Entity get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return dense[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        void touch() {
+            modCount++;
+        }
     }
 }
@@ -0,0 +1,56 @@
+package sg.edu.sit.inf1009.p2team2.engine.entity;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Free lists of removed entities, one per pool key, used by {@link EntityManager}.
+ *
+ * A recycled entity keeps its components, which are reset through
+ * {@link com.badlogic.gdx.utils.Pool.Poolable} when the entity is freed and
+ * re-initialised in place by whoever obtains it next. It receives a new id
+ * from the manager when obtained.
+ */
+final class EntityPool {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<Object, FreeList> freeLists = new HashMap<>();
+
+    Entity obtain(Object key) {
+        FreeList list = freeLists.get(key);
+        if (list == null || list.size == 0) {
+            return null;
+        }
+        Entity entity = list.entities[--list.size];
+        list.entities[list.size] = null;
+        return entity;
+    }
+
+    void free(Entity entity) {
+        FreeList list = freeLists.get(entity.getPoolKey());
+        if (list == null) {
+            list = new FreeList();
+            freeLists.put(entity.getPoolKey(), list);
+        }
+        entity.resetComponents();
+        list.push(entity);
+    }
+
+    int freeCount(Object key) {
+        FreeList list = freeLists.get(key);
+        return list == null ? 0 : list.size;
+    }
+
+    private static final class FreeList {
+        private Entity[] entities = new Entity[INITIAL_CAPACITY];
+        private int size;
+
+        void push(Entity entity) {
+            if (size == entities.length) {
+                entities = Arrays.copyOf(entities, size * 2);
+            }
+            entities[size++] = entity;
+        }
+    }
+}
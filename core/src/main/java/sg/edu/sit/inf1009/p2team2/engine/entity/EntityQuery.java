@@ -0,0 +1,111 @@
+package sg.edu.sit.inf1009.p2team2.engine.entity;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Cached set of entities that carry every component type in a signature.
+ *
+ * Instances are created through {@link EntityManager#query} and kept up to
+ * date incrementally as entities and components are added or removed, so a
+ * system can hold on to one query and walk it every frame without filtering.
+ * Indexed access ({@link #size()} / {@link #get(int)}) does not allocate.
+ *
+ * The list is read-only and unordered: removal swaps the last match into the
+ * freed slot. Defer structural changes until after iteration.
+ */
+public final class EntityQuery extends AbstractList<Entity> implements RandomAccess {
+    private final long signature;
+    private Entity[] matches = new Entity[16];
+    private int[] slotById = new int[0];
+    private int size;
+
+    EntityQuery(long signature) {
+        this.signature = signature;
+    }
+
+    /**
+     * Bitmask of the required {@link ComponentType}s.
+     */
+    public long getSignature() {
+        return signature;
+    }
+
+    public boolean matches(Entity entity) {
+        return entity != null && entity.hasAll(signature);
+    }
+
+    @Override
+    public Entity get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return matches[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        if (!(value instanceof Entity entity)) {
+            return false;
+        }
+        int id = entity.getId();
+        return id >= 0 && id < slotById.length && slotById[id] >= 0 && matches[slotById[id]] == entity;
+    }
+
+    void refresh(Entity entity) {
+        if (matches(entity)) {
+            track(entity);
+        } else {
+            untrack(entity);
+        }
+    }
+
+    void track(Entity entity) {
+        if (contains(entity)) {
+            return;
+        }
+        int id = entity.getId();
+        if (id >= slotById.length) {
+            int oldLength = slotById.length;
+            slotById = Arrays.copyOf(slotById, Math.max(id + 1, Math.max(16, oldLength * 2)));
+            Arrays.fill(slotById, oldLength, slotById.length, -1);
+        }
+        if (size == matches.length) {
+            matches = Arrays.copyOf(matches, size * 2);
+        }
+        matches[size] = entity;
+        slotById[id] = size;
+        size++;
+        modCount++;
+    }
+
+    void untrack(Entity entity) {
+        if (!contains(entity)) {
+            return;
+        }
+        int slot = slotById[entity.getId()];
+        int last = --size;
+        if (slot != last) {
+            matches[slot] = matches[last];
+            slotById[matches[slot].getId()] = slot;
+        }
+        matches[last] = null;
+        slotById[entity.getId()] = -1;
+        modCount++;
+    }
+
+    void clearMatches() {
+        for (int i = 0; i < size; i++) {
+            slotById[matches[i].getId()] = -1;
+            matches[i] = null;
+        }
+        size = 0;
+        modCount++;
+    }
+}
@@ -1,7 +1,9 @@
 package sg.edu.sit.inf1009.p2team2.engine.entity.components;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import sg.edu.sit.inf1009.p2team2.engine.collision.Circle;
+import sg.edu.sit.inf1009.p2team2.engine.collision.CollisionLayers;
 import sg.edu.sit.inf1009.p2team2.engine.collision.Rectangle;
 import sg.edu.sit.inf1009.p2team2.engine.collision.Shape;
 import sg.edu.sit.inf1009.p2team2.engine.entity.ComponentAdapter;
@@ -9,17 +11,23 @@ import sg.edu.sit.inf1009.p2team2.engine.entity.ComponentAdapter;
 /**
  * Collider ECS component storing shape and collision filtering data.
  */
-public class ColliderComponent implements ComponentAdapter {
+public class ColliderComponent implements ComponentAdapter, Pool.Poolable {
     private Shape shape;
     private boolean isTrigger;
+    private boolean isStatic;
     private int layer;
     private int mask;
+    private float sweepX;
+    private float sweepY;
+    private float anchorX;
+    private float anchorY;
+    private boolean fitToScale;
 
     public ColliderComponent() {
         this.shape = new Rectangle(0f, 0f, 0f, 0f);
         this.isTrigger = false;
         this.layer = 0;
-        this.mask = 0;
+        this.mask = CollisionLayers.ALL;
     }
 
     public Shape getShape() {
@@ -38,11 +46,30 @@ public class ColliderComponent implements ComponentAdapter {
         isTrigger = trigger;
     }
 
+    /**
+     * Static colliders never move; broad phases may skip testing them
+     * against each other and {@link sg.edu.sit.inf1009.p2team2.engine.collision.CollisionDetector}
+     * never reports static-static pairs.
+     */
+    public boolean isStatic() {
+        return isStatic;
+    }
+
+    public void setStatic(boolean isStatic) {
+        this.isStatic = isStatic;
+    }
+
     public int getLayer() {
         return layer;
     }
 
+    /**
+     * Collision layer index, 0 to {@link CollisionLayers#MAX_LAYERS} - 1.
+     */
     public void setLayer(int layer) {
+        if (layer < 0 || layer >= CollisionLayers.MAX_LAYERS) {
+            throw new IllegalArgumentException("layer must be in [0, " + CollisionLayers.MAX_LAYERS + ")");
+        }
         this.layer = layer;
     }
 
@@ -50,10 +77,80 @@ public class ColliderComponent implements ComponentAdapter {
         return mask;
     }
 
+    /**
+     * Bitmask of the layers this collider accepts; bit {@code n} is layer {@code n}.
+     * Defaults to {@link CollisionLayers#ALL}.
+     */
     public void setMask(int mask) {
         this.mask = mask;
     }
 
+    /**
+     * Where the entity's transform position sits on the collider, as a
+     * fraction of its width and height: (0, 0) is the bottom-left corner,
+     * (0.5, 0.5) the centre. Used by
+     * {@link sg.edu.sit.inf1009.p2team2.engine.collision.ColliderSyncSystem}.
+     */
+    public float getAnchorX() {
+        return anchorX;
+    }
+
+    public float getAnchorY() {
+        return anchorY;
+    }
+
+    public void setAnchor(float anchorX, float anchorY) {
+        this.anchorX = anchorX;
+        this.anchorY = anchorY;
+    }
+
+    /**
+     * Whether a synced rectangle collider takes its size from the transform
+     * scale rather than keeping its own.
+     */
+    public boolean isFitToScale() {
+        return fitToScale;
+    }
+
+    public void setFitToScale(boolean fitToScale) {
+        this.fitToScale = fitToScale;
+    }
+
+    /**
+     * Displacement of the shape over the last step, used for continuous
+     * collision detection. Zero unless the shape was moved with {@link #sweepTo}.
+     */
+    public float getSweepX() {
+        return sweepX;
+    }
+
+    public float getSweepY() {
+        return sweepY;
+    }
+
+    public void setSweep(float sweepX, float sweepY) {
+        this.sweepX = sweepX;
+        this.sweepY = sweepY;
+    }
+
+    /**
+     * Whether the last step moved the shape further than its own size on
+     * either axis, so a discrete overlap test could miss a collision.
+     */
+    public boolean isFastMoving() {
+        if (sweepX == 0f && sweepY == 0f) {
+            return false;
+        }
+        if (shape instanceof Rectangle rect) {
+            return Math.abs(sweepX) > rect.getWidth() || Math.abs(sweepY) > rect.getHeight();
+        }
+        if (shape instanceof Circle circle) {
+            float diameter = circle.getRadius() * 2f;
+            return Math.abs(sweepX) > diameter || Math.abs(sweepY) > diameter;
+        }
+        return false;
+    }
+
     /**
      * Backward-compatibility accessor for existing runtime rendering code.
      * This mirrors the current shape as an AABB rectangle.
@@ -83,25 +180,103 @@ public class ColliderComponent implements ComponentAdapter {
 
     /**
      * Backward-compatibility mutator for existing tests/scene code.
+     * Updates an existing rectangle shape in place. This is a teleport: the
+     * sweep is cleared.
      */
     public void setBounds(com.badlogic.gdx.math.Rectangle bounds) {
+        sweepX = 0f;
+        sweepY = 0f;
+        applyBounds(bounds);
+    }
+
+    /**
+     * Primitive form of {@link #setBounds(com.badlogic.gdx.math.Rectangle)};
+     * reuses the current rectangle shape.
+     */
+    public void setBounds(float x, float y, float width, float height) {
+        sweepX = 0f;
+        sweepY = 0f;
+        applyBounds(x, y, width, height);
+    }
+
+    /**
+     * Moves the shape to {@code bounds} and records the displacement from its
+     * previous position as the sweep.
+     */
+    public void sweepTo(com.badlogic.gdx.math.Rectangle bounds) {
+        if (bounds == null) {
+            setBounds(null);
+            return;
+        }
+        sweepTo(bounds.x, bounds.y, bounds.width, bounds.height);
+    }
+
+    /**
+     * Primitive form of {@link #sweepTo(com.badlogic.gdx.math.Rectangle)}.
+     */
+    public void sweepTo(float x, float y, float width, float height) {
+        if (shape instanceof Rectangle rect) {
+            sweepX = x - rect.getPosition().x;
+            sweepY = y - rect.getPosition().y;
+        } else if (shape instanceof Circle circle) {
+            sweepX = x - (circle.getCenter().x - circle.getRadius());
+            sweepY = y - (circle.getCenter().y - circle.getRadius());
+        } else {
+            sweepX = 0f;
+            sweepY = 0f;
+        }
+        applyBounds(x, y, width, height);
+    }
+
+    private void applyBounds(com.badlogic.gdx.math.Rectangle bounds) {
         if (bounds == null) {
             this.shape = null;
             return;
         }
-        this.shape = new Rectangle(bounds.x, bounds.y, bounds.width, bounds.height);
+        applyBounds(bounds.x, bounds.y, bounds.width, bounds.height);
+    }
+
+    private void applyBounds(float x, float y, float width, float height) {
+        if (shape instanceof Rectangle rect) {
+            rect.getPosition().set(x, y);
+            rect.setSize(width, height);
+            return;
+        }
+        this.shape = new Rectangle(x, y, width, height);
     }
 
     public void updatePosition(float x, float y) {
         if (shape instanceof Rectangle rect) {
-            rect.setPosition(new Vector2(x, y));
+            rect.getPosition().set(x, y);
             return;
         }
         if (shape instanceof Circle circle) {
             float radius = circle.getRadius();
-            circle.setCenter(new Vector2(x + radius, y + radius));
+            circle.getCenter().set(x + radius, y + radius);
             return;
         }
         shape = new Rectangle(x, y, 0f, 0f);
     }
+
+    /**
+     * Restores constructor defaults, reusing a rectangle shape when present.
+     */
+    @Override
+    public void reset() {
+        isTrigger = false;
+        isStatic = false;
+        layer = 0;
+        mask = CollisionLayers.ALL;
+        sweepX = 0f;
+        sweepY = 0f;
+        anchorX = 0f;
+        anchorY = 0f;
+        fitToScale = false;
+        if (shape instanceof Rectangle rect) {
+            rect.getPosition().setZero();
+            rect.setSize(0f, 0f);
+        } else {
+            shape = new Rectangle(0f, 0f, 0f, 0f);
+        }
+    }
 }
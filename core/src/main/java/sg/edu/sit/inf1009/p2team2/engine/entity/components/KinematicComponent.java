@@ -0,0 +1,85 @@
+package sg.edu.sit.inf1009.p2team2.engine.entity.components;
+
+import com.badlogic.gdx.utils.Pool;
+import sg.edu.sit.inf1009.p2team2.engine.entity.ComponentAdapter;
+
+/**
+ * ECS component for a body moving at constant velocity, unaffected by forces.
+ *
+ * The position is evaluated as {@code origin + velocity * elapsed} rather
+ * than integrated step by step. The clock is summed in double precision, so
+ * rounding does not build up over long runs the way a float sum of per-step
+ * moves does. Kinematic bodies are moved by
+ * {@link sg.edu.sit.inf1009.p2team2.engine.movement.KinematicSystem} and
+ * should not also carry a {@link VelocityComponent}; without one the
+ * collision solver treats them as immovable.
+ */
+public class KinematicComponent implements ComponentAdapter, Pool.Poolable {
+    private float originX;
+    private float originY;
+    private float velocityX;
+    private float velocityY;
+    private double elapsed;
+
+    /**
+     * Starts moving from {@code (x, y)} at {@code (velocityX, velocityY)}.
+     */
+    public void launch(float x, float y, float velocityX, float velocityY) {
+        this.originX = x;
+        this.originY = y;
+        this.velocityX = velocityX;
+        this.velocityY = velocityY;
+        this.elapsed = 0.0;
+    }
+
+    /**
+     * Changes velocity from the current position onward.
+     */
+    public void setVelocity(float velocityX, float velocityY) {
+        launch(getX(), getY(), velocityX, velocityY);
+    }
+
+    public float getVelocityX() {
+        return velocityX;
+    }
+
+    public float getVelocityY() {
+        return velocityY;
+    }
+
+    public float getOriginX() {
+        return originX;
+    }
+
+    public float getOriginY() {
+        return originY;
+    }
+
+    /**
+     * Seconds moved since the last {@link #launch} or velocity change.
+     */
+    public float getElapsed() {
+        return (float) elapsed;
+    }
+
+    public void advance(float dt) {
+        elapsed += dt;
+    }
+
+    public float getX() {
+        return (float) (originX + velocityX * elapsed);
+    }
+
+    public float getY() {
+        return (float) (originY + velocityY * elapsed);
+    }
+
+    @Override
+    public void reset() {
+        originX = 0f;
+        originY = 0f;
+        velocityX = 0f;
+        velocityY = 0f;
+        elapsed = 0.0;
+    }
+}
@@ -1,12 +1,13 @@
 package sg.edu.sit.inf1009.p2team2.engine.entity.components;
 
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.Pool;
 import sg.edu.sit.inf1009.p2team2.engine.entity.ComponentAdapter;
 
 /**
  * ECS component describing visual rendering properties for an entity.
  */
-public class RenderableComponent implements ComponentAdapter {
+public class RenderableComponent implements ComponentAdapter, Pool.Poolable {
     private String spriteId;
     private int zIndex;
     private Color color;
@@ -54,4 +55,14 @@ public class RenderableComponent implements ComponentAdapter {
     public void show() {
         this.visible = true;
     }
+
+    /**
+     * Restores defaults except the color, which may be a caller-owned instance.
+     */
+    @Override
+    public void reset() {
+        spriteId = "";
+        zIndex = 0;
+        visible = true;
+    }
 }
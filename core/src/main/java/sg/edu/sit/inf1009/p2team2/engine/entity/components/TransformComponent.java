@@ -1,15 +1,17 @@
 package sg.edu.sit.inf1009.p2team2.engine.entity.components;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import sg.edu.sit.inf1009.p2team2.engine.entity.ComponentAdapter;
 
 /**
  * ECS component storing position, rotation, and scale.
  */
-public class TransformComponent implements ComponentAdapter {
+public class TransformComponent implements ComponentAdapter, Pool.Poolable {
     private Vector2 position;
     private float rotation;
     private Vector2 scale;
+    private final Vector2 previousPosition = new Vector2();
 
     public TransformComponent() {
         this.position = new Vector2();
@@ -25,6 +27,26 @@ public class TransformComponent implements ComponentAdapter {
         this.position = position;
     }
 
+    /**
+     * Position saved by the last {@link #storePrevious()}, normally at the
+     * start of the latest simulation tick.
+     */
+    public Vector2 getPreviousPosition() {
+        return previousPosition;
+    }
+
+    public void storePrevious() {
+        previousPosition.set(position);
+    }
+
+    /**
+     * Writes the position blended from the previous tick's by {@code alpha}
+     * into {@code out}, for rendering between fixed ticks.
+     */
+    public Vector2 interpolate(float alpha, Vector2 out) {
+        return out.set(previousPosition).lerp(position, alpha);
+    }
+
     public float getRotation() {
         return rotation;
     }
@@ -40,4 +62,20 @@ public class TransformComponent implements ComponentAdapter {
     public void setScale(Vector2 scale) {
         this.scale = scale;
     }
+
+    @Override
+    public void reset() {
+        if (position == null) {
+            position = new Vector2();
+        } else {
+            position.setZero();
+        }
+        previousPosition.setZero();
+        rotation = 0f;
+        if (scale == null) {
+            scale = new Vector2(1f, 1f);
+        } else {
+            scale.set(1f, 1f);
+        }
+    }
 }
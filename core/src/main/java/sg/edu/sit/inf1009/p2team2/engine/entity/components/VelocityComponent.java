@@ -1,26 +1,36 @@
 package sg.edu.sit.inf1009.p2team2.engine.entity.components;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import sg.edu.sit.inf1009.p2team2.engine.entity.ComponentAdapter;
 
 /**
  * ECS component storing velocity and acceleration vectors.
  */
-public class VelocityComponent implements ComponentAdapter {
+public class VelocityComponent implements ComponentAdapter, Pool.Poolable {
     private Vector2 velocity;
     private Vector2 acceleration;
+    private float inverseMass;
+    private boolean sleeping;
+    private int restFrames;
+    private final Vector2 supportNormal = new Vector2();
 
     public VelocityComponent() {
         this.velocity = new Vector2();
         this.acceleration = new Vector2();
+        this.inverseMass = 1f;
     }
 
     public Vector2 getVelocity() {
         return velocity;
     }
 
+    /**
+     * Replaces the velocity and wakes the body.
+     */
     public void setVelocity(Vector2 velocity) {
         this.velocity = velocity;
+        wake();
     }
 
     public Vector2 getAcceleration() {
@@ -30,4 +40,95 @@ public class VelocityComponent implements ComponentAdapter {
     public void setAcceleration(Vector2 acceleration) {
         this.acceleration = acceleration;
     }
+
+    public float getMass() {
+        return inverseMass == 0f ? Float.POSITIVE_INFINITY : 1f / inverseMass;
+    }
+
+    /**
+     * Mass used by the iterative collision solver; defaults to 1.
+     * {@link Float#POSITIVE_INFINITY} makes the body immovable.
+     */
+    public void setMass(float mass) {
+        if (!(mass > 0f)) {
+            throw new IllegalArgumentException("mass must be > 0");
+        }
+        this.inverseMass = 1f / mass;
+    }
+
+    public float getInverseMass() {
+        return inverseMass;
+    }
+
+    /**
+     * Whether the body has come to rest and is skipped by
+     * {@link sg.edu.sit.inf1009.p2team2.engine.movement.MovementManager}
+     * until something moves it again.
+     */
+    public boolean isSleeping() {
+        return sleeping;
+    }
+
+    public void sleep() {
+        sleeping = true;
+        if (velocity != null) {
+            velocity.setZero();
+        }
+    }
+
+    /**
+     * Wakes the body and drops its support, which the next collision step
+     * records afresh.
+     */
+    public void wake() {
+        sleeping = false;
+        restFrames = 0;
+        supportNormal.setZero();
+    }
+
+    /**
+     * Consecutive updates the body has spent below the sleep speed.
+     */
+    public int getRestFrames() {
+        return restFrames;
+    }
+
+    public void setRestFrames(int restFrames) {
+        this.restFrames = restFrames;
+    }
+
+    /**
+     * Sum of the normals, each pointing into this body, of the solid contacts
+     * that pushed on it in the latest collision step. Zero when nothing
+     * touches it. A sleeping body keeps the value it fell asleep with.
+     */
+    public Vector2 getSupportNormal() {
+        return supportNormal;
+    }
+
+    public void addSupport(float normalX, float normalY) {
+        supportNormal.add(normalX, normalY);
+    }
+
+    public void clearSupport() {
+        supportNormal.setZero();
+    }
+
+    @Override
+    public void reset() {
+        if (velocity == null) {
+            velocity = new Vector2();
+        } else {
+            velocity.setZero();
+        }
+        if (acceleration == null) {
+            acceleration = new Vector2();
+        } else {
+            acceleration.setZero();
+        }
+        inverseMass = 1f;
+        sleeping = false;
+        restFrames = 0;
+        supportNormal.setZero();
+    }
 }
@@ -0,0 +1,16 @@
+package sg.edu.sit.inf1009.p2team2.engine.movement;
+
+/**
+ * Time-stepping scheme used by {@link MovementSystem} and {@link MovementManager}.
+ *
+ * Bodies are held in parallel float arrays. Each body feels the shared
+ * gravity plus its own acceleration, and friction acts as a drag
+ * proportional to velocity. Implementations must only touch indices
+ * {@code [from, to)} and keep no per-call state, so disjoint ranges can be
+ * stepped on different threads.
+ */
+public interface Integrator {
+    void integrate(float[] positionX, float[] positionY, float[] velocityX, float[] velocityY,
+                   float[] accelerationX, float[] accelerationY, int from, int to,
+                   float gravityX, float gravityY, float friction, float dt);
+}
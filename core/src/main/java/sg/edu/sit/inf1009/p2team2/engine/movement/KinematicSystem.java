@@ -0,0 +1,67 @@
+package sg.edu.sit.inf1009.p2team2.engine.movement;
+
+import java.util.Objects;
+import sg.edu.sit.inf1009.p2team2.engine.entity.Archetype;
+import sg.edu.sit.inf1009.p2team2.engine.entity.ComponentType;
+import sg.edu.sit.inf1009.p2team2.engine.entity.Entity;
+import sg.edu.sit.inf1009.p2team2.engine.entity.EntityManager;
+import sg.edu.sit.inf1009.p2team2.engine.entity.EntityQuery;
+import sg.edu.sit.inf1009.p2team2.engine.entity.components.KinematicComponent;
+import sg.edu.sit.inf1009.p2team2.engine.entity.components.TransformComponent;
+
+/**
+ * Moves every entity with a {@link KinematicComponent} in one pass.
+ *
+ * Each body's clock is advanced and its transform set to the closed-form
+ * position; there is no velocity or acceleration to integrate. Colliders
+ * follow when the collision step next syncs moved transforms.
+ */
+public class KinematicSystem {
+    private static final ComponentType<TransformComponent> TRANSFORM = ComponentType.of(TransformComponent.class);
+    private static final ComponentType<KinematicComponent> KINEMATIC = ComponentType.of(KinematicComponent.class);
+
+    private final EntityManager entityManager;
+    private final EntityQuery bodies;
+
+    public KinematicSystem(EntityManager entityManager) {
+        this.entityManager = Objects.requireNonNull(entityManager, "entityManager cannot be null");
+        this.bodies = entityManager.query(TransformComponent.class, KinematicComponent.class);
+    }
+
+    /**
+     * Advances every kinematic body by {@code dt} seconds.
+     *
+     * @return the number of bodies moved
+     */
+    public int update(float dt) {
+        if (dt <= 0f) {
+            return 0;
+        }
+        int moved = 0;
+        if (entityManager.getStorageMode() == EntityManager.StorageMode.ARCHETYPE) {
+            for (Archetype archetype : entityManager.getArchetypes()) {
+                TransformComponent[] transforms = archetype.column(TRANSFORM);
+                KinematicComponent[] kinematics = archetype.column(KINEMATIC);
+                if (transforms == null || kinematics == null) {
+                    continue;
+                }
+                for (int i = 0; i < archetype.size(); i++) {
+                    move(transforms[i], kinematics[i], dt);
+                }
+                moved += archetype.size();
+            }
+        } else {
+            for (int i = 0; i < bodies.size(); i++) {
+                Entity entity = bodies.get(i);
+                move(entity.getComponent(TRANSFORM), entity.getComponent(KINEMATIC), dt);
+            }
+            moved = bodies.size();
+        }
+        return moved;
+    }
+
+    private static void move(TransformComponent transform, KinematicComponent kinematic, float dt) {
+        kinematic.advance(dt);
+        transform.getPosition().set(kinematic.getX(), kinematic.getY());
+    }
+}
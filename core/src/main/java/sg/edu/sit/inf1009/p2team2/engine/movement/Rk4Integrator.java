@@ -0,0 +1,50 @@
+package sg.edu.sit.inf1009.p2team2.engine.movement;
+
+/**
+ * Classic fourth-order Runge-Kutta on position and velocity. The most
+ * accurate with drag, allowing the largest steps for a given error, at
+ * roughly four times the cost of {@link SemiImplicitEulerIntegrator}.
+ */
+public final class Rk4Integrator implements Integrator {
+    @Override
+    public void integrate(float[] positionX, float[] positionY, float[] velocityX, float[] velocityY,
+                          float[] accelerationX, float[] accelerationY, int from, int to,
+                          float gravityX, float gravityY, float friction, float dt) {
+        if (dt <= 0f || to <= from) {
+            return;
+        }
+        float halfDt = 0.5f * dt;
+        float sixthDt = dt / 6f;
+        for (int i = from; i < to; i++) {
+            float forceX = gravityX + accelerationX[i];
+            float forceY = gravityY + accelerationY[i];
+
+            // Position derivatives are the stage velocities; velocity
+            // derivatives are force minus drag at those velocities.
+            float v1x = velocityX[i];
+            float v1y = velocityY[i];
+            float a1x = forceX - friction * v1x;
+            float a1y = forceY - friction * v1y;
+
+            float v2x = v1x + a1x * halfDt;
+            float v2y = v1y + a1y * halfDt;
+            float a2x = forceX - friction * v2x;
+            float a2y = forceY - friction * v2y;
+
+            float v3x = v1x + a2x * halfDt;
+            float v3y = v1y + a2y * halfDt;
+            float a3x = forceX - friction * v3x;
+            float a3y = forceY - friction * v3y;
+
+            float v4x = v1x + a3x * dt;
+            float v4y = v1y + a3y * dt;
+            float a4x = forceX - friction * v4x;
+            float a4y = forceY - friction * v4y;
+
+            positionX[i] += (v1x + 2f * (v2x + v3x) + v4x) * sixthDt;
+            positionY[i] += (v1y + 2f * (v2y + v3y) + v4y) * sixthDt;
+            velocityX[i] = v1x + (a1x + 2f * (a2x + a3x) + a4x) * sixthDt;
+            velocityY[i] = v1y + (a1y + 2f * (a2y + a3y) + a4y) * sixthDt;
+        }
+    }
+}
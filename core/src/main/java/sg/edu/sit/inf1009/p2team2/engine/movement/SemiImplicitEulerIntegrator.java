@@ -0,0 +1,28 @@
+package sg.edu.sit.inf1009.p2team2.engine.movement;
+
+/**
+ * Semi-implicit (symplectic) Euler: velocity is updated first and the new
+ * velocity moves the position. Friction is applied as a per-step damping
+ * factor clamped at zero. Cheapest of the integrators and the default.
+ */
+public final class SemiImplicitEulerIntegrator implements Integrator {
+    @Override
+    public void integrate(float[] positionX, float[] positionY, float[] velocityX, float[] velocityY,
+                          float[] accelerationX, float[] accelerationY, int from, int to,
+                          float gravityX, float gravityY, float friction, float dt) {
+        if (dt <= 0f || to <= from) {
+            return;
+        }
+        float damping = friction <= 0f ? 1f : Math.max(0f, 1f - friction * dt);
+        float gravityStepX = gravityX * dt;
+        float gravityStepY = gravityY * dt;
+        for (int i = from; i < to; i++) {
+            float vx = (velocityX[i] + gravityStepX) * damping + accelerationX[i] * dt;
+            float vy = (velocityY[i] + gravityStepY) * damping + accelerationY[i] * dt;
+            velocityX[i] = vx;
+            velocityY[i] = vy;
+            positionX[i] += vx * dt;
+            positionY[i] += vy * dt;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package sg.edu.sit.inf1009.p2team2.engine.movement;
+
+/**
+ * Velocity Verlet: position takes the half-step acceleration term and
+ * velocity averages the accelerations at both ends of the step. Exact for
+ * constant acceleration, so jump and fall arcs do not depend on the step
+ * size; second-order accurate with drag.
+ */
+public final class VelocityVerletIntegrator implements Integrator {
+    @Override
+    public void integrate(float[] positionX, float[] positionY, float[] velocityX, float[] velocityY,
+                          float[] accelerationX, float[] accelerationY, int from, int to,
+                          float gravityX, float gravityY, float friction, float dt) {
+        if (dt <= 0f || to <= from) {
+            return;
+        }
+        float halfDtSquared = 0.5f * dt * dt;
+        float halfDt = 0.5f * dt;
+        for (int i = from; i < to; i++) {
+            float vx = velocityX[i];
+            float vy = velocityY[i];
+            float forceX = gravityX + accelerationX[i];
+            float forceY = gravityY + accelerationY[i];
+            float startX = forceX - friction * vx;
+            float startY = forceY - friction * vy;
+            positionX[i] += vx * dt + startX * halfDtSquared;
+            positionY[i] += vy * dt + startY * halfDtSquared;
+            // Drag at the end of the step uses the predicted velocity.
+            float endX = forceX - friction * (vx + startX * dt);
+            float endY = forceY - friction * (vy + startY * dt);
+            velocityX[i] = vx + (startX + endX) * halfDt;
+            velocityY[i] = vy + (startY + endY) * halfDt;
+        }
+    }
+}
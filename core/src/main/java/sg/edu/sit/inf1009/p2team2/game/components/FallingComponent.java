@@ -1,11 +1,12 @@
 package sg.edu.sit.inf1009.p2team2.game.components;
 
+import com.badlogic.gdx.utils.Pool;
 import sg.edu.sit.inf1009.p2team2.engine.entity.ComponentAdapter;
 
 /**
  * ECS component that controls vertical fall speed for dropping entities.
  */
-public class FallingComponent implements ComponentAdapter {
+public class FallingComponent implements ComponentAdapter, Pool.Poolable {
 
     private float speed;
     private boolean active;
@@ -19,4 +20,10 @@ public class FallingComponent implements ComponentAdapter {
     public void    setSpeed(float speed) { this.speed = speed; }
     public boolean isActive()   { return active; }
     public void    deactivate() { this.active = false; }
+
+    @Override
+    public void reset() {
+        this.speed  = 0f;
+        this.active = true;
+    }
 }
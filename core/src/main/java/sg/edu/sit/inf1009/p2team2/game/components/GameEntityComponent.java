@@ -1,5 +1,6 @@
 package sg.edu.sit.inf1009.p2team2.game.components;
 
+import com.badlogic.gdx.utils.Pool;
 import sg.edu.sit.inf1009.p2team2.engine.entity.ComponentAdapter;
 import sg.edu.sit.inf1009.p2team2.game.entities.EntityType;
 
@@ -9,7 +10,7 @@ import sg.edu.sit.inf1009.p2team2.game.entities.EntityType;
  * Attached to every falling entity (good/bad) and the player.
  * The GamePlayScene reads this component to decide what happens on collision.
  */
-public class GameEntityComponent implements ComponentAdapter {
+public class GameEntityComponent implements ComponentAdapter, Pool.Poolable {
 
     private final EntityType entityType;
     private final boolean bad;
@@ -31,4 +32,10 @@ public class GameEntityComponent implements ComponentAdapter {
     public int        getScoreValue()  { return scoreValue; }
     public boolean    isCollected()    { return collected; }
     public void       markCollected()  { this.collected = true; }
+
+    /** Clears per-spawn state; the entity type is fixed for the pooled entity's lifetime. */
+    @Override
+    public void reset() {
+        this.collected = false;
+    }
 }
@@ -6,6 +6,7 @@ import sg.edu.sit.inf1009.p2team2.engine.io.output.EngineColor;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import sg.edu.sit.inf1009.p2team2.engine.entity.Entity;
+import sg.edu.sit.inf1009.p2team2.engine.entity.EntityQuery;
 import sg.edu.sit.inf1009.p2team2.engine.entity.components.RenderableComponent;
 import sg.edu.sit.inf1009.p2team2.engine.entity.components.TransformComponent;
 import sg.edu.sit.inf1009.p2team2.engine.io.output.Renderer;
@@ -21,6 +22,8 @@ import sg.edu.sit.inf1009.p2team2.game.ui.GameUiTheme;
 
 final class GamePlayRenderer extends SceneRenderer {
         private final GamePlayScene scene;
+        private final EntityQuery drawables;
+        private final Vector2 drawPosition = new Vector2();
 
         // Colors
         private static final EngineColor COL_HUD_BG   = new EngineColor(0f, 0f, 0f, 0.55f);
@@ -38,6 +41,7 @@ final class GamePlayRenderer extends SceneRenderer {
         GamePlayRenderer(GamePlayScene scene) {
             super(scene.getContext());
             this.scene = scene;
+            this.drawables = scene.getEntityManager().query(TransformComponent.class, GameEntityComponent.class);
         }
 
         @Override
@@ -96,26 +100,25 @@ final class GamePlayRenderer extends SceneRenderer {
         // ── Entities ────────────────────────────────────────────────────────
 
         private void drawEntities(Renderer r) {
-            for (Entity entity : scene.getEntityManager().getAllEntities()) {
-                TransformComponent tf = entity.get(TransformComponent.class);
-                if (tf == null) continue;
+            float alpha = scene.getContext().getInterpolationAlpha();
+            // The player is always drawn first, under the falling items, whatever its query slot.
+            Entity player = scene.getPlayerEntity();
+            TransformComponent playerTf = player == null ? null : player.get(TransformComponent.class);
+            GameEntityComponent playerGec = player == null ? null : player.get(GameEntityComponent.class);
+            if (playerTf != null && playerGec != null) {
+                drawPlayer(r, playerTf.interpolate(alpha, drawPosition),
+                    EntityFactory.PLAYER_WIDTH, EntityFactory.PLAYER_HEIGHT, playerGec.getEntityType().getColor());
+            }
 
+            for (int i = 0; i < drawables.size(); i++) {
+                Entity entity = drawables.get(i);
                 GameEntityComponent gec = entity.get(GameEntityComponent.class);
-                if (gec == null) continue;
-
-                EngineColor color = gec.getEntityType().getColor();
-                float w, h;
-
-                if (gec.getEntityType() == EntityType.PLAYER) {
-                    w = EntityFactory.PLAYER_WIDTH;
-                    h = EntityFactory.PLAYER_HEIGHT;
-                    drawPlayer(r, tf.getPosition(), w, h, color);
-                } else {
-                    w = tf.getScale().x;
-                    h = tf.getScale().y;
-                    drawFallingEntity(r, tf.getPosition(), w, h, gec.getEntityType(), color,
-                        entity.get(RenderableComponent.class));
+                if (entity == player || gec.getEntityType() == EntityType.PLAYER) {
+                    continue;
                 }
+                TransformComponent tf = entity.get(TransformComponent.class);
+                drawFallingEntity(r, tf.interpolate(alpha, drawPosition), tf.getScale().x, tf.getScale().y,
+                    gec.getEntityType(), gec.getEntityType().getColor(), entity.get(RenderableComponent.class));
             }
         }
 
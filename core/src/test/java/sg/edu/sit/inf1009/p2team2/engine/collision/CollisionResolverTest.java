@@ -1,7 +1,10 @@
 package sg.edu.sit.inf1009.p2team2.engine.collision;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import com.badlogic.gdx.math.Vector2;
@@ -45,4 +48,83 @@ class CollisionResolverTest {
         assertNotEquals(5f, va.getVelocity().x, 0.0001f);
         assertNotEquals(-5f, vb.getVelocity().x, 0.0001f);
     }
+
+    @Test
+    void resolveIgnoresTriggerCollisions() {
+        Entity a = new Entity(1);
+        Entity b = new Entity(2);
+        TransformComponent ta = new TransformComponent();
+        ta.setPosition(new Vector2(0f, 0f));
+        TransformComponent tb = new TransformComponent();
+        tb.setPosition(new Vector2(0.5f, 0f));
+        a.add(ta);
+        b.add(tb);
+
+        Collision collision = new Collision(a, b);
+        collision.setContactNormal(new Vector2(1f, 0f));
+        collision.setPenetrationDepth(1f);
+        collision.setTrigger(true);
+
+        new CollisionResolver().resolve(collision);
+
+        assertEquals(0f, ta.getPosition().x);
+        assertEquals(0.5f, tb.getPosition().x);
+    }
+
+    @Test
+    void iterativeSolverIsMassAwareAndStoresImpulse() {
+        Entity heavy = body(0f, 4f, 3f);
+        Entity light = body(1f, -4f, 1f);
+        Collision collision = new Collision(heavy, light);
+        collision.setContactNormal(new Vector2(1f, 0f));
+        collision.setPenetrationDepth(2f);
+
+        CollisionResolver resolver = new CollisionResolver();
+        resolver.setIterations(8);
+        resolver.resolveCollisions(List.of(collision));
+
+        // Perfectly inelastic: both end at the momentum-weighted velocity.
+        assertEquals(2f, heavy.get(VelocityComponent.class).getVelocity().x, 0.0001f);
+        assertEquals(2f, light.get(VelocityComponent.class).getVelocity().x, 0.0001f);
+        assertEquals(6f, collision.getNormalImpulse(), 0.0001f);
+
+        // (2 - slop) * baumgarte, split by inverse mass.
+        float correction = (2f - CollisionResolver.DEFAULT_SLOP) * CollisionResolver.DEFAULT_BAUMGARTE / (1f / 3f + 1f);
+        assertEquals(-correction / 3f, heavy.get(TransformComponent.class).getPosition().x, 0.0001f);
+        assertEquals(1f + correction, light.get(TransformComponent.class).getPosition().x, 0.0001f);
+    }
+
+    @Test
+    void warmStartResolvesRestingContactFromCachedImpulse() {
+        Entity falling = body(0f, 0f, 1f);
+        falling.get(VelocityComponent.class).getVelocity().set(0f, -3f);
+        Entity ground = new Entity(2);
+        TransformComponent groundTransform = new TransformComponent();
+        groundTransform.setPosition(new Vector2(0f, -1f));
+        ground.add(groundTransform);
+
+        Collision collision = new Collision(falling, ground);
+        collision.setContactNormal(new Vector2(0f, -1f));
+        collision.setNormalImpulse(3f);
+
+        CollisionResolver resolver = new CollisionResolver();
+        resolver.setIterations(4);
+        resolver.resolveCollisions(List.of(collision));
+
+        assertEquals(0f, falling.get(VelocityComponent.class).getVelocity().y, 0.0001f);
+        assertEquals(3f, collision.getNormalImpulse(), 0.0001f);
+        assertEquals(-1f, groundTransform.getPosition().y, 0.0001f);
+    }
+
+    private static Entity body(float x, float velocityX, float mass) {
+        Entity entity = new Entity((int) (x * 10f) + 100);
+        TransformComponent transform = new TransformComponent();
+        transform.setPosition(new Vector2(x, 0f));
+        VelocityComponent velocity = new VelocityComponent();
+        velocity.setVelocity(new Vector2(velocityX, 0f));
+        velocity.setMass(mass);
+        entity.add(transform);
+        entity.add(velocity);
+        return entity;
+    }
 }
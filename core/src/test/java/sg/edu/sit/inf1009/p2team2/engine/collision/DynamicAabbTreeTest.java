@@ -0,0 +1,75 @@
+package sg.edu.sit.inf1009.p2team2.engine.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class DynamicAabbTreeTest {
+
+    @Test
+    void staysBalancedForSortedInsertions() {
+        DynamicAabbTree tree = new DynamicAabbTree();
+        tree.begin();
+        for (int i = 0; i < 256; i++) {
+            tree.add(i, i * 10f, 0f, i * 10f + 5f, 5f);
+        }
+        tree.computePairs();
+
+        assertEquals(256, tree.size());
+        assertTrue(tree.getHeight() <= 16, "height " + tree.getHeight());
+    }
+
+    @Test
+    void staticPairsAreSkippedAndStaleIdsDropped() {
+        DynamicAabbTree tree = new DynamicAabbTree();
+        tree.begin();
+        tree.add(1, 0f, 0f, 100f, 10f, true);
+        tree.add(2, 50f, 0f, 150f, 10f, true);
+        tree.add(3, 40f, 5f, 60f, 25f, false);
+        tree.computePairs();
+        assertEquals(List.of("1:3", "2:3"), pairs(tree));
+
+        tree.begin();
+        tree.add(1, 0f, 0f, 100f, 10f, true);
+        tree.add(3, 40f, 5f, 60f, 25f, false);
+        tree.computePairs();
+        assertEquals(List.of("1:3"), pairs(tree));
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    void answersPointRegionAndRayQueries() {
+        DynamicAabbTree tree = new DynamicAabbTree();
+        tree.begin();
+        tree.add(1, 0f, 0f, 10f, 10f);
+        tree.add(2, 20f, 0f, 30f, 10f);
+        tree.add(3, 40f, 0f, 50f, 10f);
+        tree.computePairs();
+
+        List<Integer> hits = new ArrayList<>();
+        tree.queryPoint(25f, 5f, hits::add);
+        assertEquals(List.of(2), hits);
+
+        hits.clear();
+        tree.queryRegion(5f, 0f, 45f, 1f, hits::add);
+        hits.sort(null);
+        assertEquals(List.of(1, 2, 3), hits);
+
+        assertEquals(2, tree.raycast(15f, 5f, 60f, 5f));
+        assertEquals(5f / 45f, tree.getRaycastFraction(), 0.0001f);
+        assertEquals(-1, tree.raycast(0f, 20f, 60f, 20f));
+    }
+
+    private static List<String> pairs(DynamicAabbTree tree) {
+        List<String> pairs = new ArrayList<>();
+        for (int i = 0; i < tree.getPairCount(); i++) {
+            pairs.add(tree.getPairA(i) + ":" + tree.getPairB(i));
+        }
+        pairs.sort(null);
+        return pairs;
+    }
+}
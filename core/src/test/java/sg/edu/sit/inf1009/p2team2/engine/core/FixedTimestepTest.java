@@ -0,0 +1,42 @@
+package sg.edu.sit.inf1009.p2team2.engine.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class FixedTimestepTest {
+
+    @Test
+    void highRefreshFramesRunFewerTicksWithCarriedAlpha() {
+        FixedTimestep timestep = new FixedTimestep(60, 5);
+        int ticks = 0;
+        for (int frame = 0; frame < 144; frame++) {
+            ticks += timestep.advance(1f / 144f);
+        }
+        assertEquals(60, ticks, 1);
+
+        timestep.reset();
+        assertEquals(0, timestep.advance(0.01f));
+        assertEquals(0.6f, timestep.getAlpha(), 1e-4f);
+        assertEquals(1, timestep.advance(0.01f));
+        assertEquals(0.2f, timestep.getAlpha(), 1e-4f);
+    }
+
+    @Test
+    void slowFramesAreCappedAndVariableModeStepsOncePerFrame() {
+        FixedTimestep timestep = new FixedTimestep(50, 3);
+        assertEquals(3, timestep.advance(0.25f));
+        assertEquals(0f, timestep.getAlpha(), 1e-4f);
+        assertEquals(0, timestep.advance(0.01f));
+
+        timestep.setTickRate(0);
+        assertEquals(1, timestep.advance(0.033f));
+        assertEquals(0, timestep.advance(0f));
+        assertEquals(1f, timestep.getAlpha());
+        assertEquals(0f, timestep.getStep());
+
+        assertThrows(IllegalArgumentException.class, () -> timestep.setTickRate(-1));
+        assertThrows(IllegalArgumentException.class, () -> timestep.setMaxSteps(0));
+    }
+}
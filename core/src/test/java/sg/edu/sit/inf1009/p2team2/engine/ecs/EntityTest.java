@@ -2,6 +2,7 @@ package sg.edu.sit.inf1009.p2team2.engine.ecs;
 
 import org.junit.jupiter.api.Test;
 
+import sg.edu.sit.inf1009.p2team2.engine.entity.ComponentType;
 import sg.edu.sit.inf1009.p2team2.engine.entity.Entity;
 import static org.junit.jupiter.api.Assertions.*;
 import sg.edu.sit.inf1009.p2team2.engine.entity.components.TransformComponent;
@@ -57,4 +58,43 @@ class EntityTest {
         Entity entity = new Entity(4);
         assertThrows(IllegalArgumentException.class, () -> entity.add(null));
     }
+
+    @Test
+    void signatureTracksComponentTypeBits() {
+        Entity entity = new Entity(5);
+        ComponentType<TransformComponent> transformType = ComponentType.of(TransformComponent.class);
+        long both = ComponentType.maskOf(TransformComponent.class, VelocityComponent.class);
+        TransformComponent transform = new TransformComponent();
+
+        entity.add(transform);
+        assertSame(transform, entity.getComponent(transformType));
+        assertEquals(transformType.getBit(), entity.getSignature());
+        assertFalse(entity.hasAll(both));
+
+        entity.add(new VelocityComponent());
+        assertTrue(entity.hasAll(both));
+
+        entity.remove(TransformComponent.class);
+        assertFalse(entity.hasComponent(transformType));
+        assertNull(entity.getComponent(transformType));
+    }
+
+    @Test
+    void resetRecreatesVectorsThatWereSetToNull() {
+        TransformComponent transform = new TransformComponent();
+        transform.setPosition(null);
+        transform.setScale(null);
+        VelocityComponent velocity = new VelocityComponent();
+        velocity.setVelocity(null);
+        velocity.setAcceleration(null);
+
+        transform.reset();
+        velocity.reset();
+
+        assertEquals(0f, transform.getPosition().len(), 0f);
+        assertEquals(1f, transform.getScale().x, 0f);
+        assertEquals(1f, transform.getScale().y, 0f);
+        assertEquals(0f, velocity.getVelocity().len(), 0f);
+        assertEquals(0f, velocity.getAcceleration().len(), 0f);
+    }
 }
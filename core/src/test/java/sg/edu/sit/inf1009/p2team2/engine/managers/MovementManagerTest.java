@@ -1,6 +1,13 @@
 package sg.edu.sit.inf1009.p2team2.engine.managers;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
 
@@ -34,4 +41,84 @@ class MovementManagerTest {
         assertNotEquals(10f, transform.getPosition().x, 0.0001f);
         assertNotEquals(10f, transform.getPosition().y, 0.0001f);
     }
+
+    @Test
+    void parallelUpdateMatchesSerialUpdate() {
+        EntityManager serialEntities = new EntityManager(EntityManager.StorageMode.ARCHETYPE);
+        EntityManager parallelEntities = new EntityManager(EntityManager.StorageMode.ARCHETYPE);
+        Random random = new Random(8L);
+        for (int i = 0; i < 5000; i++) {
+            Vector2 position = new Vector2(random.nextFloat() * 800f, random.nextFloat() * 600f);
+            Vector2 speed = new Vector2(random.nextFloat() * 200f - 100f, random.nextFloat() * 200f - 100f);
+            addBody(serialEntities, position, speed);
+            addBody(parallelEntities, position, speed);
+        }
+
+        MovementManager serial = new MovementManager(serialEntities);
+        MovementManager parallel = new MovementManager(parallelEntities);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            parallel.setParallel(pool);
+            parallel.setParallelThreshold(1000);
+            for (MovementManager manager : new MovementManager[] {serial, parallel}) {
+                manager.setFriction(0.2f);
+                for (int step = 0; step < 5; step++) {
+                    manager.update(1f / 60f);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertTrue(parallel.isParallel());
+        for (int i = 0; i < serialEntities.size(); i++) {
+            Entity expected = serialEntities.getAllEntities().get(i);
+            Entity actual = parallelEntities.getAllEntities().get(i);
+            assertEquals(expected.get(TransformComponent.class).getPosition(), actual.get(TransformComponent.class).getPosition());
+            assertEquals(expected.get(VelocityComponent.class).getVelocity(), actual.get(VelocityComponent.class).getVelocity());
+        }
+        assertThrows(IllegalArgumentException.class, () -> parallel.setParallelThreshold(0));
+    }
+
+    @Test
+    void restingBodiesSleepAndWakeWhenMoved() {
+        EntityManager entityManager = new EntityManager();
+        addBody(entityManager, new Vector2(0f, 0f), new Vector2(0.2f, 0f));
+        addBody(entityManager, new Vector2(50f, 0f), new Vector2(40f, 0f));
+        Entity resting = entityManager.getAllEntities().get(0);
+        Entity moving = entityManager.getAllEntities().get(1);
+        VelocityComponent restingVelocity = resting.get(VelocityComponent.class);
+
+        MovementManager manager = new MovementManager(entityManager);
+        manager.setGravity(new Vector2(0f, 0f));
+        manager.setSleepEnabled(true);
+        manager.setSleepFrames(3);
+        for (int i = 0; i < 3; i++) {
+            manager.update(1f / 60f);
+        }
+        assertTrue(restingVelocity.isSleeping());
+        assertFalse(moving.get(VelocityComponent.class).isSleeping());
+        assertEquals(1, manager.getSleepingCount());
+        float sleptAt = resting.get(TransformComponent.class).getPosition().x;
+
+        manager.update(1f / 60f);
+        assertEquals(sleptAt, resting.get(TransformComponent.class).getPosition().x);
+
+        // An impulse, e.g. from the collision solver, wakes it on the next update.
+        restingVelocity.getVelocity().set(30f, 0f);
+        manager.update(1f / 60f);
+        assertFalse(restingVelocity.isSleeping());
+        assertEquals(0, manager.getSleepingCount());
+        assertEquals(sleptAt + 0.5f, resting.get(TransformComponent.class).getPosition().x, 0.0001f);
+    }
+
+    private static void addBody(EntityManager entityManager, Vector2 position, Vector2 speed) {
+        Entity entity = entityManager.createEntity();
+        TransformComponent transform = new TransformComponent();
+        transform.setPosition(position.cpy());
+        VelocityComponent velocity = new VelocityComponent();
+        velocity.setVelocity(speed.cpy());
+        entity.add(transform);
+        entity.add(velocity);
+    }
 }
@@ -0,0 +1,53 @@
+package sg.edu.sit.inf1009.p2team2.engine.systems;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import sg.edu.sit.inf1009.p2team2.engine.entity.Entity;
+import sg.edu.sit.inf1009.p2team2.engine.entity.EntityManager;
+import sg.edu.sit.inf1009.p2team2.engine.entity.components.KinematicComponent;
+import sg.edu.sit.inf1009.p2team2.engine.entity.components.TransformComponent;
+import sg.edu.sit.inf1009.p2team2.engine.movement.KinematicSystem;
+
+class KinematicSystemTest {
+
+    @Test
+    void bodiesFollowClosedFormPositionInBothStorageModes() {
+        for (EntityManager.StorageMode mode : EntityManager.StorageMode.values()) {
+            EntityManager entityManager = new EntityManager(mode);
+            Entity entity = entityManager.createEntity();
+            KinematicComponent kinematic = new KinematicComponent();
+            kinematic.launch(100f, 500f, 0f, -120f);
+            entity.add(new TransformComponent());
+            entity.add(kinematic);
+
+            KinematicSystem system = new KinematicSystem(entityManager);
+            int moved = 0;
+            for (int i = 0; i < 600; i++) {
+                moved = system.update(1f / 60f);
+            }
+
+            TransformComponent transform = entity.get(TransformComponent.class);
+            assertEquals(1, moved);
+            assertEquals(100f, transform.getPosition().x, 0.0001f);
+            // Ten seconds at 120 px/s. The clock is summed in double, so 600
+            // float steps stay well inside what a float sum would drift by.
+            assertEquals(-700f, transform.getPosition().y, 0.001f);
+        }
+    }
+
+    @Test
+    void velocityChangeContinuesFromCurrentPosition() {
+        KinematicComponent kinematic = new KinematicComponent();
+        kinematic.launch(0f, 0f, 10f, 0f);
+        kinematic.advance(2f);
+
+        kinematic.setVelocity(0f, -5f);
+        kinematic.advance(1f);
+
+        assertEquals(20f, kinematic.getX(), 0.0001f);
+        assertEquals(-5f, kinematic.getY(), 0.0001f);
+        assertEquals(1f, kinematic.getElapsed(), 0.0001f);
+    }
+}